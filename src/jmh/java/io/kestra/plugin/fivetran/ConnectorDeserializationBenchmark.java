@@ -0,0 +1,131 @@
+package io.kestra.plugin.fivetran;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.kestra.plugin.fivetran.models.ConnectorListResponse;
+import io.kestra.plugin.fivetran.models.ConnectorResponse;
+import io.kestra.plugin.fivetran.models.Views;
+
+/**
+ * Parsing of connector payloads shaped like Fivetran's, with the plugin's own readers: one connector as read
+ * by the status polls, and a 100-connector group page as read by bulk reads, each with and without the
+ * polling view.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConnectorDeserializationBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    private byte[] connectorResponse;
+    private byte[] connectorPage;
+    private ObjectReader pollingConnectorReader;
+    private ObjectReader fullConnectorReader;
+    private ObjectReader pollingPageReader;
+    private ObjectReader fullPageReader;
+
+    @Setup
+    public void setUp() {
+        connectorResponse = ("{\"code\":\"Success\",\"data\":" + connector(0) + "}").getBytes(StandardCharsets.UTF_8);
+
+        StringBuilder page = new StringBuilder("{\"code\":\"Success\",\"data\":{\"items\":[");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.append(i == 0 ? "" : ",").append(connector(i));
+        }
+        connectorPage = page.append("],\"next_cursor\":null}}").toString().getBytes(StandardCharsets.UTF_8);
+
+        pollingConnectorReader = AbstractFivetranConnection.reader(ConnectorResponse.class, Views.Polling.class);
+        fullConnectorReader = AbstractFivetranConnection.reader(ConnectorResponse.class, null);
+        pollingPageReader = AbstractFivetranConnection.reader(ConnectorListResponse.class, Views.Polling.class);
+        fullPageReader = AbstractFivetranConnection.reader(ConnectorListResponse.class, null);
+    }
+
+    @Benchmark
+    public ConnectorResponse connectorPollingView() throws IOException {
+        return pollingConnectorReader.readValue(connectorResponse);
+    }
+
+    @Benchmark
+    public ConnectorResponse connectorFullView() throws IOException {
+        return fullConnectorReader.readValue(connectorResponse);
+    }
+
+    @Benchmark
+    public ConnectorListResponse groupPagePollingView() throws IOException {
+        return pollingPageReader.readValue(connectorPage);
+    }
+
+    @Benchmark
+    public ConnectorListResponse groupPageFullView() throws IOException {
+        return fullPageReader.readValue(connectorPage);
+    }
+
+    // A database connector with its config, setup tests and sync details, as returned by GET /v2/connectors/{id}.
+    private static String connector(int index) {
+        StringBuilder tables = new StringBuilder();
+        for (int table = 0; table < 20; table++) {
+            tables.append(table == 0 ? "" : ",")
+                .append("{\"name\":\"table_").append(table).append("\",\"rows_updated\":").append(table * 1000)
+                .append(",\"last_synced\":\"2026-07-27T13:13:08.389Z\"}");
+        }
+
+        return """
+            {
+              "id": "connector_%1$d",
+              "group_id": "group_%2$d",
+              "service": "postgres",
+              "service_version": 1,
+              "schema": "warehouse_%1$d",
+              "destination_schema": {"name": "warehouse_%1$d", "prefix": "warehouse"},
+              "connected_by": "monitoring_user",
+              "created_at": "2024-01-01T00:00:00.000Z",
+              "succeeded_at": "2026-07-27T13:13:08.389Z",
+              "failed_at": "2026-04-28T03:06:48.382Z",
+              "paused": false,
+              "pause_after_trial": false,
+              "sync_frequency": 60,
+              "schedule_type": "auto",
+              "daily_sync_time": "03:00",
+              "data_delay_sensitivity": "NORMAL",
+              "status": {
+                "setup_state": "connected",
+                "schema_status": "ready",
+                "sync_state": "scheduled",
+                "update_state": "on_schedule",
+                "is_historical_sync": false,
+                "tasks": [],
+                "warnings": [{"code": "resync_table_warning", "message": "Resync of table_3 recommended"}]
+              },
+              "setup_tests": [
+                {"title": "Connecting to host", "status": "PASSED", "message": ""},
+                {"title": "Validating certificate", "status": "PASSED", "message": ""},
+                {"title": "Connecting to database", "status": "PASSED", "message": ""},
+                {"title": "Checking replication slot", "status": "WARNING", "message": "Slot lag is growing"}
+              ],
+              "source_sync_details": {"tables": [%3$s]},
+              "config": {
+                "host": "db-%1$d.internal.example.com",
+                "port": 5432,
+                "database": "production",
+                "user": "fivetran",
+                "update_method": "WAL",
+                "replication_slot": "fivetran_slot_%1$d",
+                "publication_name": "fivetran_publication",
+                "schema_prefix": "warehouse"
+              }
+            }
+            """.formatted(index, index % 10, tables);
+    }
+}
@@ -0,0 +1,54 @@
+package io.kestra.plugin.fivetran;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Classification of transport failures by {@link AbstractFivetranConnection#isRetriableTransientError}, which
+ * walks the cause chain: a timeout wrapped a few levels deep, and a non-retriable failure wrapped deep enough
+ * that the whole chain is walked up to its depth cap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RetryClassificationBenchmark {
+    private Throwable wrappedTimeout;
+    private Throwable deepNonRetriable;
+
+    @Setup
+    public void setUp() {
+        wrappedTimeout = new RuntimeException(new UncheckedIOException(new IOException(new SocketTimeoutException("Read timed out"))));
+
+        Throwable chain = new UnknownHostException("api.fivetran.invalid");
+        for (int depth = 0; depth < 32; depth++) {
+            chain = new RuntimeException("wrapper " + depth, chain);
+        }
+        deepNonRetriable = chain;
+    }
+
+    @Benchmark
+    public boolean wrappedTimeout() {
+        return AbstractFivetranConnection.isRetriableTransientError(wrappedTimeout, "GET");
+    }
+
+    @Benchmark
+    public boolean deepNonRetriableChain() {
+        return AbstractFivetranConnection.isRetriableTransientError(deepNonRetriable, "GET");
+    }
+
+    @Benchmark
+    public boolean writeMethod() {
+        return AbstractFivetranConnection.isRetriableTransientError(wrappedTimeout, "POST");
+    }
+}
@@ -0,0 +1,90 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.kestra.plugin.fivetran.models.Connector;
+import io.kestra.plugin.fivetran.models.ConnectorStatusResponse;
+import io.kestra.plugin.fivetran.models.DestinationSchema;
+
+/**
+ * The per-poll work of {@link Status} over 1,000 connectors: building the output states with their freshness
+ * verdicts, the freshness check alone, and the sanitization of asset ids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatusBenchmark {
+    private static final int CONNECTORS = 1_000;
+    private static final Duration BUFFER = Duration.ofMinutes(5);
+
+    private Map<String, Connector> connectors;
+    private String[] schemas;
+    private String[] rawAssetIds;
+
+    @Setup
+    public void setUp() {
+        ZonedDateTime now = ZonedDateTime.now();
+        connectors = new LinkedHashMap<>();
+        schemas = new String[CONNECTORS];
+        rawAssetIds = new String[CONNECTORS];
+        for (int i = 0; i < CONNECTORS; i++) {
+            String id = "connector_" + i;
+            schemas[i] = "google_sheets.destination " + i;
+            rawAssetIds[i] = "__group-" + (i % 10) + "." + schemas[i];
+            connectors.put(id, Connector.builder()
+                .id(id)
+                .name(id)
+                .groupId("group_" + (i % 10))
+                .destinationSchema(DestinationSchema.builder().name(schemas[i]).build())
+                .paused(false)
+                .syncFrequency(i % 2 == 0 ? 60 : 1440)
+                .scheduleType("auto")
+                // Spread the last syncs over two days, with every tenth connector failing last, so both verdicts occur.
+                .succeededAt(now.minusMinutes(i * 3L))
+                .failedAt(i % 10 == 0 ? now.minusMinutes(i) : null)
+                .status(ConnectorStatusResponse.builder().syncState("scheduled").setupState("connected").schemaStatus("ready").build())
+                .build()
+            );
+        }
+    }
+
+    @Benchmark
+    public Map<String, Status.ConnectorState> toStates() {
+        return Status.toStates(connectors, BUFFER);
+    }
+
+    @Benchmark
+    public void computeFresh(Blackhole blackhole) {
+        ZonedDateTime now = ZonedDateTime.now();
+        for (Connector connector : connectors.values()) {
+            blackhole.consume(Status.computeFresh(connector.getSucceededAt(), connector.hasFailed(), connector.getSyncFrequency(), BUFFER, now));
+        }
+    }
+
+    @Benchmark
+    public void sanitizeSegment(Blackhole blackhole) {
+        for (String schema : schemas) {
+            blackhole.consume(Status.sanitizeSegment(schema));
+        }
+    }
+
+    @Benchmark
+    public void sanitizeAssetId(Blackhole blackhole) {
+        for (String rawAssetId : rawAssetIds) {
+            blackhole.consume(Status.sanitizeAssetId(rawAssetId));
+        }
+    }
+}
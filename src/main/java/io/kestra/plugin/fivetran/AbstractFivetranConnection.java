@@ -1,17 +1,39 @@
 package io.kestra.plugin.fivetran;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.hc.core5.http.Method;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
@@ -24,13 +46,17 @@ import io.kestra.core.http.client.HttpClientResponseException;
 import io.kestra.core.http.client.configurations.BasicAuthConfiguration;
 import io.kestra.core.http.client.configurations.HttpConfiguration;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.Task;
-import io.kestra.core.models.tasks.retrys.Exponential;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.utils.RetryUtils;
 import io.kestra.plugin.fivetran.models.Connector;
+import io.kestra.plugin.fivetran.models.ConnectorListResponse;
+import io.kestra.plugin.fivetran.models.ConnectorPage;
 import io.kestra.plugin.fivetran.models.ConnectorResponse;
+import io.kestra.plugin.fivetran.models.SyncResponse;
+import io.kestra.plugin.fivetran.models.Views;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Min;
@@ -46,8 +72,22 @@ import lombok.experimental.SuperBuilder;
 public abstract class AbstractFivetranConnection extends Task {
     private static final ObjectMapper MAPPER = new ObjectMapper()
         .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-        .registerModule(new JavaTimeModule());
+        .registerModule(new JavaTimeModule())
+        .registerModule(new SimpleModule().addDeserializer(ZonedDateTime.class, new UtcDateTimeDeserializer()));
 
+    // ObjectReaders are immutable and thread-safe, so one per response type and view is built once and shared by all runs.
+    private static final Map<ReaderKey, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+    private static final SingleFlight<Connector> CONNECTOR_READS = new SingleFlight<>();
+    // Served as-is only to runs opting in through cachePolicy(), otherwise only used to revalidate reads.
+    private static final ConnectorCache CONNECTOR_CACHE = new ConnectorCache(10_000);
+    private static final int NOT_MODIFIED = 304;
+    private static final SingleFlight<List<Connector>> GROUP_READS = new SingleFlight<>();
+
+    // The largest page the Fivetran list endpoints accept, so a group is listed in as few calls as possible.
+    private static final int GROUP_PAGE_SIZE = 1000;
+
+    private static final int CLIENT_ERROR_MIN = 400;
     private static final int TOO_MANY_REQUESTS = 429;
     private static final int SERVER_ERROR_MIN = 500;
     private static final int SERVER_ERROR_MAX = 599;
@@ -97,20 +137,194 @@ public abstract class AbstractFivetranConnection extends Task {
 
     @Schema(
         title = "Initial delay before the first retry",
-        description = "Backoff grows from this delay, capped at 30 seconds. Default: 1 second."
+        description = "Backoff grows from this delay, capped at 30 seconds. Default: 1 second. When Fivetran names a delay on a 429 or 5xx through `Retry-After` or the rate-limit reset headers, that delay is used instead (capped at 5 minutes)."
     )
     @Builder.Default
     @PluginProperty(group = "advanced")
     Property<Duration> initialRetryDelay = Property.ofValue(Duration.ofSeconds(1));
 
+    @Schema(
+        title = "Jitter of the retry backoff",
+        description = "How the exponential backoff between retries is randomized, so that tasks failing together, e.g. flows started by the same schedule, do not retry in lockstep: `NONE` (default) waits the backoff as is, `FULL` a random delay up to it, `EQUAL` half of it plus a random delay up to the other half, and `DECORRELATED` a random delay between `initialRetryDelay` and three times the previous delay. A delay named by Fivetran through `Retry-After` or the rate-limit reset headers is always honored as is."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    Property<RetryJitter> retryJitter = Property.ofValue(RetryJitter.NONE);
+
+    @Schema(
+        title = "Maximum random offset of the first poll",
+        description = "When set, a waiting task delays its first status check by a random duration up to this value, shifting the phase of all its later polls too, so flows started at the same second poll Fivetran at different times instead of all at once. Disabled by default."
+    )
+    @PluginProperty(group = "advanced")
+    Property<Duration> pollJitter;
+
+    @Schema(
+        title = "Client-side rate limit, in requests per second",
+        description = "When set, every Fivetran call (retries included) first takes a token from a bucket shared by all tasks of the worker using the same `apiKey` and `baseUrl`, so flows starting together stay under the account's rate limit instead of falling into 429 retry storms. Time spent waiting is reported in the `rate.limit.wait.duration` metric. Disabled by default."
+    )
+    @PluginProperty(group = "advanced")
+    Property<Double> rateLimitPerSecond;
+
+    @Schema(
+        title = "Client-side rate limit burst",
+        description = "How many calls may go out back-to-back before `rateLimitPerSecond` applies. Defaults to one second worth of calls."
+    )
+    @PluginProperty(group = "advanced")
+    Property<@Min(1) Integer> rateLimitBurst;
+
+    @Schema(
+        title = "Retry budget of the task run",
+        description = "When set, the retries of all Fivetran calls of one task run, over the last 10 seconds, may not exceed this share of the calls made in the same time, e.g. `0.2` for one retry every five calls; 10 retries per 10 seconds are always allowed, so isolated transient errors are still retried. A call whose retry would exceed the budget fails with its last error, just as when it ran out of `maxAttempts`. This keeps a gate over hundreds of connectors from multiplying its calls by `maxAttempts` during an API blip. Disabled by default."
+    )
+    @PluginProperty(group = "advanced")
+    Property<Double> retryBudgetRatio;
+
+    @Schema(
+        title = "Failure ratio opening the circuit breaker",
+        description = "When set, every Fivetran call goes through a circuit breaker shared by all tasks of the worker using the same `baseUrl`. Once at least 10 of the last 20 calls completed and this share of them failed with a 5xx, a read timeout or a refused connection, the breaker opens: calls fail fast instead of retrying against the failing API, until `circuitBreakerOpenDuration` elapsed and a single probe call succeeds. While waiting, `Sync`, `SyncAll` and `Status` keep polling through an open breaker as through any transient read failure. Between 0 (exclusive) and 1. Disabled by default."
+    )
+    @PluginProperty(group = "advanced")
+    Property<Double> circuitBreakerFailureRatio;
+
+    @Schema(
+        title = "How long the circuit breaker stays open",
+        description = "Time calls are rejected once the breaker opened, before a probe call is let through. Default: 30 seconds."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    Property<Duration> circuitBreakerOpenDuration = Property.ofValue(Duration.ofSeconds(30));
+
     /**
+     * Opens the client session shared by every Fivetran call of one task run. The caller closes it once the run
+     * is over, typically with try-with-resources around the whole body of {@code run()}.
+     *
      * @param runContext The run context used to render properties and build the HTTP client.
+     * @return A session holding the pooled HTTP client and the rendered connection and retry settings.
+     */
+    protected FivetranSession openSession(RunContext runContext) throws IllegalVariableEvaluationException {
+        String rBaseUrl = runContext.render(this.baseUrl).as(String.class).orElseThrow();
+
+        var rMaxAttempts = runContext.render(this.maxAttempts).as(Integer.class).orElseThrow();
+        // @Min(1) only catches static values at flow-validation time; a dynamic expression can still
+        // render to 0 or negative, which would otherwise silently skip the call altogether.
+        if (rMaxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1, but was " + rMaxAttempts);
+        }
+        Duration rInitialRetryDelay = runContext.render(this.initialRetryDelay).as(Duration.class).orElseThrow();
+        if (rInitialRetryDelay.isNegative() || rInitialRetryDelay.isZero()) {
+            throw new IllegalArgumentException("initialRetryDelay must be a positive duration, but was " + rInitialRetryDelay);
+        }
+
+        HttpConfiguration.HttpConfigurationBuilder builder = this.options != null ? this.options.toBuilder() : HttpConfiguration.builder();
+
+        builder.auth(BasicAuthConfiguration.builder().username(apiKey).password(apiSecret).build());
+
+        String accountKey = FivetranSession.accountKey(rBaseUrl, runContext.render(this.apiKey).as(String.class).orElseThrow());
+        FivetranSession.FivetranSessionBuilder session = FivetranSession.builder()
+            .runContext(runContext)
+            .baseUrl(rBaseUrl)
+            .accountKey(accountKey)
+            .maxAttempts(rMaxAttempts)
+            .initialRetryDelay(rInitialRetryDelay)
+            .retryJitter(runContext.render(this.retryJitter).as(RetryJitter.class).orElse(RetryJitter.NONE));
+
+        Double rRateLimitPerSecond = runContext.render(this.rateLimitPerSecond).as(Double.class).orElse(null);
+        if (rRateLimitPerSecond != null) {
+            if (!(rRateLimitPerSecond > 0) || rRateLimitPerSecond.isInfinite()) {
+                throw new IllegalArgumentException("rateLimitPerSecond must be a positive number, but was " + rRateLimitPerSecond);
+            }
+            int rRateLimitBurst = runContext.render(this.rateLimitBurst).as(Integer.class)
+                .orElse((int) Math.max(1, Math.ceil(rRateLimitPerSecond)));
+            if (rRateLimitBurst < 1) {
+                throw new IllegalArgumentException("rateLimitBurst must be at least 1, but was " + rRateLimitBurst);
+            }
+            session
+                .rateLimiter(RateLimiter.of(accountKey))
+                .rateLimitPerSecond(rRateLimitPerSecond)
+                .rateLimitBurst(rRateLimitBurst);
+        }
+
+        Double rRetryBudgetRatio = runContext.render(this.retryBudgetRatio).as(Double.class).orElse(null);
+        if (rRetryBudgetRatio != null) {
+            if (!(rRetryBudgetRatio >= 0) || rRetryBudgetRatio.isInfinite()) {
+                throw new IllegalArgumentException("retryBudgetRatio must be a non-negative number, but was " + rRetryBudgetRatio);
+            }
+            session.retryBudget(new RetryBudget(rRetryBudgetRatio));
+        }
+
+        Double rCircuitBreakerFailureRatio = runContext.render(this.circuitBreakerFailureRatio).as(Double.class).orElse(null);
+        if (rCircuitBreakerFailureRatio != null) {
+            if (!(rCircuitBreakerFailureRatio > 0 && rCircuitBreakerFailureRatio <= 1)) {
+                throw new IllegalArgumentException("circuitBreakerFailureRatio must be greater than 0 and at most 1, but was " + rCircuitBreakerFailureRatio);
+            }
+            Duration rCircuitBreakerOpenDuration = runContext.render(this.circuitBreakerOpenDuration).as(Duration.class).orElseThrow();
+            if (rCircuitBreakerOpenDuration.isNegative() || rCircuitBreakerOpenDuration.isZero()) {
+                throw new IllegalArgumentException("circuitBreakerOpenDuration must be a positive duration, but was " + rCircuitBreakerOpenDuration);
+            }
+            session
+                .circuitBreaker(CircuitBreaker.of(rBaseUrl))
+                .circuitBreakerFailureRatio(rCircuitBreakerFailureRatio)
+                .circuitBreakerOpenDuration(rCircuitBreakerOpenDuration);
+        }
+
+        return session
+            .cachePolicy(this.cachePolicy(runContext))
+            .client(new HttpClient(runContext, builder.build()))
+            .build();
+    }
+
+    /**
+     * Delays the first poll of a wait loop by a random offset up to {@code pollJitter}, so runs started at the
+     * same second, e.g. by the same schedule, poll out of phase instead of in lockstep.
+     */
+    protected void awaitPollPhase(RunContext runContext) throws IllegalVariableEvaluationException, InterruptedException {
+        Duration rPollJitter = runContext.render(this.pollJitter).as(Duration.class).orElse(Duration.ZERO);
+        if (rPollJitter.isNegative()) {
+            throw new IllegalArgumentException("pollJitter must not be negative, but was " + rPollJitter);
+        }
+        if (!rPollJitter.isZero()) {
+            Thread.sleep(Duration.ofNanos(ThreadLocalRandom.current().nextLong(rPollJitter.toNanos() + 1)));
+        }
+    }
+
+    /**
+     * Reports a wait loop: how many poll cycles ran and how long the task waited in total, telling a gate that
+     * waits on Fivetran apart from one slowed down by its own calls (see the {@code request.*} metrics).
+     */
+    protected static void emitWaitMetrics(RunContext runContext, long pollCycles, Instant waitStartedAt) {
+        runContext.metric(Counter.of("poll.cycles", pollCycles));
+        runContext.metric(Timer.of("wait.duration", Duration.between(waitStartedAt, Instant.now())));
+    }
+
+    /**
+     * Whether and how this task run shares connector snapshots with the other runs of the worker. Null, the
+     * default, reads every connector from the API.
+     */
+    protected CachePolicy cachePolicy(RunContext runContext) throws IllegalVariableEvaluationException {
+        return null;
+    }
+
+    /**
+     * @param session The client session of the current task run.
      * @param requestBuilder The prepared HTTP request builder.
      * @param responseType The expected response type.
      * @param <RES> The response class.
      * @return HttpResponse of type RES.
      */
-    protected <RES> HttpResponse<RES> request(RunContext runContext, HttpRequest.HttpRequestBuilder requestBuilder, Class<RES> responseType)
+    protected <RES> HttpResponse<RES> request(FivetranSession session, HttpRequest.HttpRequestBuilder requestBuilder, Class<RES> responseType)
+        throws HttpClientException, IllegalVariableEvaluationException {
+        return this.request(session, requestBuilder, responseType, null);
+    }
+
+    /**
+     * @param session The client session of the current task run.
+     * @param requestBuilder The prepared HTTP request builder.
+     * @param responseType The expected response type.
+     * @param view The {@link Views} class to deserialize the response with, or null to read every property.
+     * @param <RES> The response class.
+     * @return HttpResponse of type RES.
+     */
+    protected <RES> HttpResponse<RES> request(FivetranSession session, HttpRequest.HttpRequestBuilder requestBuilder, Class<RES> responseType, Class<?> view)
         throws HttpClientException, IllegalVariableEvaluationException {
 
         var request = requestBuilder
@@ -118,78 +332,495 @@ public abstract class AbstractFivetranConnection extends Task {
             .addHeader("Accept", "application/json;version=2")
             .build();
 
-        HttpConfiguration.HttpConfigurationBuilder builder = this.options != null ? this.options.toBuilder() : HttpConfiguration.builder();
-
-        builder.auth(BasicAuthConfiguration.builder().username(apiKey).password(apiSecret).build());
+        ObjectReader reader = reader(responseType, view);
+        String endpoint = endpoint(request.getUri());
+        RequestMetrics metrics = session.requestMetrics(request.getMethod(), endpoint);
+        metrics.requests.increment();
+        if (session.retryBudget != null) {
+            session.retryBudget.recordRequest();
+        }
 
-        HttpConfiguration httpConfiguration = builder.build();
+        Duration delay = null;
+        for (int attempt = 1; ; attempt++) {
+            checkCircuitBreaker(session, request, metrics);
+            acquirePermit(session, request);
+            metrics.attempts.increment();
+            FivetranTracing.RequestSpan span = FivetranTracing.startRequest(request.getMethod(), request.getUri().getRawPath(), endpoint, attempt);
+            long startNanos = System.nanoTime();
+            try {
+                HttpResponse<RES> response = send(session.client, request, reader, metrics.responseBytes);
+                metrics.recordAttempt(System.nanoTime() - startNanos);
+                span.end(response.getStatus().getCode(), null);
+                if (session.circuitBreaker != null) {
+                    session.circuitBreaker.record(false, session.circuitBreakerFailureRatio);
+                }
+                return response;
+            } catch (HttpClientException | IOException | RuntimeException e) {
+                metrics.recordAttempt(System.nanoTime() - startNanos);
+                int code = e instanceof HttpClientResponseException ex && ex.getResponse() != null
+                    ? ex.getResponse().getStatus().getCode()
+                    : 0;
+                span.end(code, e);
+                if (session.circuitBreaker != null) {
+                    session.circuitBreaker.record(isUnavailable(e), session.circuitBreakerFailureRatio);
+                }
+                if (code == TOO_MANY_REQUESTS) {
+                    metrics.tooManyRequests.increment();
+                } else if (code >= SERVER_ERROR_MIN && code <= SERVER_ERROR_MAX) {
+                    metrics.serverErrors.increment();
+                }
+                boolean retriable = isRetriableTransientError(e, request.getMethod());
+                if (!retriable || attempt >= session.maxAttempts || !withinRetryBudget(session, request, metrics)) {
+                    // Surface the original error with its real HTTP status/cause. Only a transient error that
+                    // exhausted its retries and is not already an HttpClientException gets wrapped, so
+                    // request()'s declared type stays honest.
+                    if (e instanceof HttpClientException hce) {
+                        throw hce;
+                    }
+                    if (retriable) {
+                        throw new HttpClientRequestException(e.getMessage(), request, e);
+                    }
+                    if (e instanceof RuntimeException re) {
+                        throw re;
+                    }
+                    throw new RuntimeException("Error executing HTTP request", e);
+                }
 
-        var rMaxAttempts = runContext.render(this.maxAttempts).as(Integer.class).orElseThrow();
-        // @Min(1) only catches static values at flow-validation time; a dynamic expression can still
-        // render to 0 or negative, which Failsafe rejects with an opaque error naming no property.
-        if (rMaxAttempts < 1) {
-            throw new IllegalArgumentException("maxAttempts must be at least 1, but was " + rMaxAttempts);
+                delay = retryDelay(e, attempt, session.initialRetryDelay, session.retryJitter, delay);
+                session.getRunContext().logger().debug(
+                    "Retrying {} {} in {} after attempt {}/{} failed: {}",
+                    request.getMethod(), request.getUri(), delay, attempt, session.maxAttempts, e.getMessage()
+                );
+                metrics.retries.increment();
+                metrics.retryWaitNanos.add(delay.toNanos());
+                sleep(delay, request);
+            }
         }
-        Duration rInitialRetryDelay = runContext.render(this.initialRetryDelay).as(Duration.class).orElseThrow();
-        if (rInitialRetryDelay.isNegative() || rInitialRetryDelay.isZero()) {
-            throw new IllegalArgumentException("initialRetryDelay must be a positive duration, but was " + rInitialRetryDelay);
+    }
+
+    /**
+     * The endpoint template of a request, grouping the metrics of every connector or group: the resource
+     * identifier following the resource type is replaced, e.g. {@code /v2/connectors/{id}/sync}.
+     */
+    static String endpoint(URI uri) {
+        String[] segments = uri.getRawPath().split("/", -1);
+        if (segments.length > 3) {
+            segments[3] = "{id}";
         }
+        return String.join("/", segments);
+    }
 
-        try (HttpClient client = new HttpClient(runContext, httpConfiguration)) {
-            return RetryUtils.<HttpResponse<RES>, HttpClientException> of(
-                Exponential.builder()
-                    .delayFactor(2.0)
-                    .interval(rInitialRetryDelay)
-                    .maxInterval(Duration.ofSeconds(30))
-                    .maxAttempts(rMaxAttempts)
-                    .build(),
-                // On exhausted retries, surface the original error instead of RetryUtils' RetryFailed,
-                // so the task keeps the real HTTP status/cause and request()'s declared type stays honest.
-                failed -> failed.getCause() instanceof HttpClientException hce
-                    ? hce
-                    : new HttpClientRequestException(failed.getMessage(), request, failed.getCause())
-            ).run(
-                (res, throwable) -> isRetriableTransientError(throwable, request.getMethod()),
-                () ->
-                {
-                    HttpResponse<String> response = client.request(request, String.class);
-                    RES parsedResponse = MAPPER.readValue(response.getBody(), responseType);
-                    return HttpResponse.<RES> builder()
-                        .request(request)
-                        .body(parsedResponse)
-                        .headers(response.getHeaders())
-                        .status(response.getStatus())
-                        .build();
+    private static <RES> HttpResponse<RES> send(HttpClient client, HttpRequest request, ObjectReader reader, LongAdder responseBytes)
+        throws HttpClientException, IllegalVariableEvaluationException, IOException {
+        AtomicReference<RES> parsedResponse = new AtomicReference<>();
+        AtomicReference<String> errorBody = new AtomicReference<>();
+        HttpResponse<Void> response;
+        try {
+            response = client.request(request, streamed -> {
+                int code = streamed.getStatus().getCode();
+                InputStream body = streamed.getBody() != null ? new CountingInputStream(streamed.getBody(), responseBytes) : null;
+                if (code >= CLIENT_ERROR_MIN) {
+                    // Kept as text for the error message: an error body is not always JSON, e.g. a proxy's 502 page.
+                    errorBody.set(readErrorBody(body));
+                } else if (code != NOT_MODIFIED) {
+                    // A 304 has no body: the caller reuses the snapshot it revalidated.
+                    parsedResponse.set(readBody(body, reader));
                 }
-            );
+            });
+        } catch (UncheckedIOException e) {
+            // Surface the parse or stream-read error itself, so a read timeout mid-body stays retriable.
+            throw e.getCause();
+        } catch (HttpClientResponseException e) {
+            throw withErrorBody(e, request, errorBody.get());
+        }
+        return HttpResponse.<RES> builder()
+            .request(request)
+            .body(parsedResponse.get())
+            .headers(response.getHeaders())
+            .status(response.getStatus())
+            .build();
+    }
+
+    // The streamed body is consumed before the client raises the error, so it is added back to its message.
+    private static HttpClientResponseException withErrorBody(HttpClientResponseException e, HttpRequest request, String body) {
+        if (body == null || body.isBlank() || e.getResponse() == null || (e.getMessage() != null && e.getMessage().contains(body))) {
+            return e;
+        }
+        HttpResponse<String> response = HttpResponse.<String> builder()
+            .request(request)
+            .body(body)
+            .headers(e.getResponse().getHeaders())
+            .status(e.getResponse().getStatus())
+            .build();
+        return new HttpClientResponseException(e.getMessage() + " and body:\n" + body, response);
+    }
+
+    static ObjectReader reader(Class<?> responseType, Class<?> view) {
+        return READERS.computeIfAbsent(
+            new ReaderKey(responseType, view),
+            key -> key.view() != null ? MAPPER.readerFor(key.type()).withView(key.view()) : MAPPER.readerFor(key.type())
+        );
+    }
+
+    private record ReaderKey(Class<?> type, Class<?> view) {
+    }
+
+    /**
+     * The delay before the next attempt. A 429 or 5xx naming a delay through {@code Retry-After} or the
+     * rate-limit reset headers is honored as-is, since retrying earlier only burns attempts and quota, and
+     * retrying later only adds latency. Exponential backoff, randomized by {@code jitter}, is the fallback when the
+     * response names none.
+     *
+     * @param previousDelay The delay before the previous attempt of the call, or null on its first retry.
+     */
+    static Duration retryDelay(Throwable error, int failedAttempts, Duration initialRetryDelay, RetryJitter jitter, Duration previousDelay) {
+        if (error instanceof HttpClientResponseException ex && ex.getResponse() != null) {
+            Optional<Duration> serverDelay = RetryDelays.serverDelay(ex.getResponse().getHeaders(), Instant.now());
+            if (serverDelay.isPresent()) {
+                return serverDelay.get();
+            }
+        }
+        return RetryDelays.jitteredBackoff(jitter, initialRetryDelay, failedAttempts, previousDelay);
+    }
+
+    // Takes a retry from the run's budget, if any; a call over budget fails with its last error.
+    private static boolean withinRetryBudget(FivetranSession session, HttpRequest request, RequestMetrics metrics) {
+        if (session.retryBudget == null || session.retryBudget.tryRetry()) {
+            return true;
+        }
+        metrics.retryBudgetExhausted.increment();
+        session.getRunContext().logger().debug(
+            "Not retrying {} {}: the retry budget of the run is exhausted", request.getMethod(), request.getUri()
+        );
+        return false;
+    }
+
+    // Fails the attempt fast, without taking a rate-limit token, while the breaker of the base URL is open.
+    private static void checkCircuitBreaker(FivetranSession session, HttpRequest request, RequestMetrics metrics) throws HttpClientRequestException {
+        if (session.circuitBreaker == null) {
+            return;
+        }
+        long openNanos = session.circuitBreaker.tryAcquireNanos(session.circuitBreakerOpenDuration);
+        if (openNanos > 0) {
+            metrics.rejected.increment();
+            var cause = new CircuitBreaker.OpenException(session.getBaseUrl(), Duration.ofNanos(openNanos));
+            throw new HttpClientRequestException(cause.getMessage(), request, cause);
+        }
+    }
+
+    // Every attempt, retries included, takes a token: a retry costs the account the same quota as a first call.
+    private static void acquirePermit(FivetranSession session, HttpRequest request) throws HttpClientRequestException {
+        if (session.rateLimiter == null) {
+            return;
+        }
+        long waitNanos = session.rateLimiter.reserveNanos(session.rateLimitPerSecond, session.rateLimitBurst);
+        if (waitNanos > 0) {
+            session.rateLimitWaitNanos.add(waitNanos);
+            sleep(Duration.ofNanos(waitNanos), request);
+        }
+    }
+
+    private static void sleep(Duration delay, HttpRequest request) throws HttpClientRequestException {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HttpClientRequestException("Interrupted while waiting to retry", request, e);
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private final LongAdder count;
+
+        CountingInputStream(InputStream in, LongAdder count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read >= 0) {
+                this.count.increment();
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                this.count.add(read);
+            }
+            return read;
+        }
+    }
+
+    /**
+     * Parses the response straight from its stream, so a large payload (setup tests, source sync details) is
+     * never first copied into a String. A missing or empty body maps to null, which callers already treat as such.
+     */
+    private static <RES> RES readBody(InputStream body, ObjectReader reader) {
+        if (body == null) {
+            return null;
+        }
+        try (JsonParser parser = reader.createParser(body)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return reader.readValue(parser);
         } catch (IOException e) {
-            throw new RuntimeException("Error executing HTTP request", e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readErrorBody(InputStream body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
     /**
-     * Reads a connector's current status via GET, without triggering a sync.
+     * Reads a connector's current status via GET, without triggering a sync. Concurrent reads of the same
+     * connector of the same account on this worker, typically many gates on one warehouse connector, share a
+     * single round trip and its parsed result. When the last read of the connector came with an {@code ETag} or
+     * {@code Last-Modified} header, the GET is conditional, and a 304 reuses the snapshot already parsed.
+     * The connector is read with the {@link Views.Polling} view, which leaves out setup tests, sync details and
+     * status alerts.
      *
-     * @param runContext The run context used to render properties and build the HTTP client.
+     * @param session The client session of the current task run.
      * @param connectorId The already-rendered Fivetran connector ID.
-     * @return The connector as returned by the Fivetran API.
+     * @return The connector, in the {@link Views.Polling} view.
      */
-    protected Connector fetchConnector(RunContext runContext, String connectorId)
+    protected Connector fetchConnector(FivetranSession session, String connectorId)
+        throws IllegalVariableEvaluationException, HttpClientException {
+        String key = session.accountKey + "/" + connectorId;
+        CachePolicy cachePolicy = session.cachePolicy;
+        if (cachePolicy == null) {
+            return CONNECTOR_READS.run(key, () -> this.readConnector(session, connectorId));
+        }
+
+        ConnectorCache.Entry cached = CONNECTOR_CACHE.get(key);
+        if (cached != null && cached.age().compareTo(cachePolicy.getTtl()) <= 0) {
+            session.cacheHits.increment();
+            return cached.connector();
+        }
+        session.cacheMisses.increment();
+
+        try {
+            return CONNECTOR_READS.run(key, () -> this.readConnector(session, connectorId));
+        } catch (HttpClientException | RuntimeException e) {
+            // Stale-if-error: an older snapshot beats failing the read, within the staleness the task accepts.
+            if (cached != null
+                && isRetriableTransientError(e, "GET")
+                && cached.age().compareTo(cachePolicy.getTtl().plus(cachePolicy.getMaxStaleness())) <= 0) {
+                session.getRunContext().logger().warn(
+                    "Could not read connector '{}', using its snapshot from {} ago: {}", connectorId, cached.age(), e.getMessage()
+                );
+                return cached.connector();
+            }
+            throw e;
+        }
+    }
+
+    private Connector readConnector(FivetranSession session, String connectorId)
         throws IllegalVariableEvaluationException, HttpClientException {
+        String key = session.accountKey + "/" + connectorId;
         HttpRequest.HttpRequestBuilder requestBuilder = HttpRequest.builder()
-            .uri(
-                URI.create(
-                    runContext.render(this.getBaseUrl()).as(String.class).orElseThrow() +
-                        "/v2/connectors/" + encodeConnectorId(connectorId)
-                )
-            )
+            .uri(URI.create(session.getBaseUrl() + "/v2/connectors/" + encodeConnectorId(connectorId)))
             .method("GET");
 
-        HttpResponse<ConnectorResponse> response = this.request(runContext, requestBuilder, ConnectorResponse.class);
+        ConnectorCache.Entry known = CONNECTOR_CACHE.get(key);
+        if (known != null && known.etag() != null) {
+            requestBuilder.addHeader("If-None-Match", known.etag());
+        }
+        if (known != null && known.lastModified() != null) {
+            requestBuilder.addHeader("If-Modified-Since", known.lastModified());
+        }
+
+        HttpResponse<ConnectorResponse> response = this.request(session, requestBuilder, ConnectorResponse.class, Views.Polling.class);
 
+        if (response.getStatus().getCode() == NOT_MODIFIED) {
+            if (known == null) {
+                // Nothing was asked to be revalidated, so there is no snapshot to reuse.
+                throw new IllegalStateException("Unexpected 304 Not Modified on an unconditional read of connector '" + connectorId + "'");
+            }
+            session.notModifiedReads.increment();
+            // Revalidated: the snapshot is as recent as a full read would have been.
+            CONNECTOR_CACHE.put(key, known.connector(), known.etag(), known.lastModified());
+            return known.connector();
+        }
+
+        if (response.getBody() == null || response.getBody().getData() == null) {
+            throw new IllegalStateException("Missing body on connector read");
+        }
+        Connector connector = response.getBody().getData();
+        String etag = response.getHeaders().firstValue("ETag").orElse(null);
+        String lastModified = response.getHeaders().firstValue("Last-Modified").orElse(null);
+        // Without a cache policy, a snapshot is only kept when it can be revalidated by the next read.
+        if (session.cachePolicy != null || etag != null || lastModified != null) {
+            CONNECTOR_CACHE.put(key, connector, etag, lastModified);
+        }
+        return connector;
+    }
+
+    /**
+     * Reads a connector with every property, setup tests and status tasks and warnings included, for instance
+     * to explain a failed sync. Unlike {@link #fetchConnector}, the read is neither shared nor cached.
+     *
+     * @param session The client session of the current task run.
+     * @param connectorId The already-rendered Fivetran connector ID.
+     * @return The connector, in the {@link Views.Full} view.
+     */
+    protected Connector fetchConnectorDetails(FivetranSession session, String connectorId)
+        throws IllegalVariableEvaluationException, HttpClientException {
+        HttpRequest.HttpRequestBuilder requestBuilder = HttpRequest.builder()
+            .uri(URI.create(session.getBaseUrl() + "/v2/connectors/" + encodeConnectorId(connectorId)))
+            .method("GET");
+
+        HttpResponse<ConnectorResponse> response = this.request(session, requestBuilder, ConnectorResponse.class, Views.Full.class);
+        if (response.getBody() == null || response.getBody().getData() == null) {
+            throw new IllegalStateException("Missing body on connector read");
+        }
         return response.getBody().getData();
     }
 
+    /**
+     * Starts a connector sync via {@code POST /v2/connectors/{connectorId}/sync}. Never retried, since a retry
+     * could start the sync twice.
+     *
+     * @param session The client session of the current task run.
+     * @param connectorId The already-rendered Fivetran connector ID.
+     * @param force Whether to cancel a sync already running before starting a new one.
+     * @return The HTTP response, whose body is never null.
+     */
+    protected HttpResponse<SyncResponse> triggerSync(FivetranSession session, String connectorId, boolean force)
+        throws IllegalVariableEvaluationException, HttpClientException {
+        HttpRequest.HttpRequestBuilder requestBuilder = HttpRequest.builder()
+            .uri(URI.create(session.getBaseUrl() + "/v2/connectors/" + encodeConnectorId(connectorId) + "/sync"))
+            .method("POST")
+            .body(
+                HttpRequest.JsonRequestBody.builder()
+                    .content(Map.of("force", force))
+                    .build()
+            );
+
+        HttpResponse<SyncResponse> response = this.request(session, requestBuilder, SyncResponse.class);
+        if (response.getBody() == null) {
+            throw new IllegalStateException("Missing body on trigger");
+        }
+        return response;
+    }
+
+    /**
+     * Lists every connector of a group via {@code GET /v2/groups/{groupId}/connectors}, following the pagination
+     * cursor to the last page. One listing replaces a GET per connector when many connectors of the same group
+     * are read together. Like {@link #fetchConnector}, concurrent listings of the same group on this worker share
+     * a single pass.
+     *
+     * @param session The client session of the current task run.
+     * @param groupId The already-rendered Fivetran group ID.
+     * @return The connectors of the group, in the {@link Views.Polling} view.
+     */
+    protected List<Connector> fetchGroupConnectors(FivetranSession session, String groupId)
+        throws IllegalVariableEvaluationException, HttpClientException {
+        List<Connector> connectors = GROUP_READS.run(session.accountKey + "/" + groupId, () -> this.listGroupConnectors(session, groupId));
+        if (session.cachePolicy != null) {
+            connectors.stream()
+                .filter(connector -> connector.getId() != null)
+                .forEach(connector -> CONNECTOR_CACHE.put(session.accountKey + "/" + connector.getId(), connector));
+        }
+        return connectors;
+    }
+
+    private List<Connector> listGroupConnectors(FivetranSession session, String groupId)
+        throws IllegalVariableEvaluationException, HttpClientException {
+        List<Connector> connectors = new ArrayList<>();
+        String cursor = null;
+        do {
+            String uri = session.getBaseUrl() + "/v2/groups/" + encodePathSegment(groupId) + "/connectors?limit=" + GROUP_PAGE_SIZE
+                + (cursor != null ? "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : "");
+            HttpRequest.HttpRequestBuilder requestBuilder = HttpRequest.builder()
+                .uri(URI.create(uri))
+                .method("GET");
+
+            ConnectorPage page = this.request(session, requestBuilder, ConnectorListResponse.class, Views.Polling.class).getBody().getData();
+            if (page == null) {
+                break;
+            }
+            if (page.getItems() != null) {
+                connectors.addAll(page.getItems());
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null && !cursor.isEmpty());
+
+        return connectors;
+    }
+
+    /**
+     * Runs {@code call} once per ID (connector or group), at most {@code concurrency} at a time on virtual
+     * threads, so a batch of reads takes about as long as the slowest one instead of the sum of all of them.
+     *
+     * @return The results keyed by ID, in the order the IDs were given.
+     * @throws Exception The error of the first failing ID in that order, exactly as a sequential loop would
+     * have raised it.
+     */
+    protected static <T> Map<String, T> forEachConcurrently(List<String> ids, int concurrency, IdCall<T> call)
+        throws Exception {
+        Map<String, T> results = new LinkedHashMap<>();
+        if (concurrency <= 1 || ids.size() <= 1) {
+            for (String id : ids) {
+                results.put(id, call.call(id));
+            }
+            return results;
+        }
+
+        // Carry the caller's trace context, so the requests of each call stay children of its poll cycle span.
+        FivetranTracing.Propagation context = FivetranTracing.currentContext();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Semaphore permits = new Semaphore(concurrency);
+            List<Future<T>> futures = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                futures.add(executor.submit(context.wrap(() ->
+                {
+                    permits.acquire();
+                    try {
+                        return call.call(id);
+                    } finally {
+                        permits.release();
+                    }
+                })));
+            }
+
+            for (int i = 0; i < ids.size(); i++) {
+                try {
+                    results.put(ids.get(i), futures.get(i).get());
+                } catch (ExecutionException e) {
+                    futures.forEach(future -> future.cancel(true));
+                    if (e.getCause() instanceof Exception cause) {
+                        throw cause;
+                    }
+                    throw e;
+                } catch (InterruptedException e) {
+                    // Closing the executor waits for every call, so stop them rather than hang the cancelled run.
+                    futures.forEach(future -> future.cancel(true));
+                    throw e;
+                }
+            }
+        }
+        return results;
+    }
+
+    @FunctionalInterface
+    protected interface IdCall<T> {
+        T call(String id) throws Exception;
+    }
+
     /**
      * URL-encodes a connector ID before it is interpolated into a Fivetran API path, so reserved URL
      * characters cannot alter the request path. Shared by the GET status read and the POST sync trigger.
@@ -197,7 +828,12 @@ public abstract class AbstractFivetranConnection extends Task {
      * path-segment {@code %20}.
      */
     protected static String encodeConnectorId(String connectorId) {
-        return URLEncoder.encode(connectorId, StandardCharsets.UTF_8).replace("+", "%20");
+        return encodePathSegment(connectorId);
+    }
+
+    // Same encoding for any other ID interpolated into a path, such as a group ID.
+    protected static String encodePathSegment(String segment) {
+        return URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20");
     }
 
     /**
@@ -210,9 +846,21 @@ public abstract class AbstractFivetranConnection extends Task {
             return false;
         }
 
+        if (throwable instanceof HttpClientResponseException ex && ex.getResponse().getStatus().getCode() == TOO_MANY_REQUESTS) {
+            return true;
+        }
+
+        return isUnavailable(throwable);
+    }
+
+    /**
+     * Whether an error shows the Fivetran API itself failing, as opposed to rejecting the call: a 5xx, a read
+     * timeout or a refused connection, or a call rejected by the open {@link CircuitBreaker} they tripped.
+     */
+    private static boolean isUnavailable(Throwable throwable) {
         if (throwable instanceof HttpClientResponseException ex) {
             int code = ex.getResponse().getStatus().getCode();
-            return code == TOO_MANY_REQUESTS || (code >= SERVER_ERROR_MIN && code <= SERVER_ERROR_MAX);
+            return code >= SERVER_ERROR_MIN && code <= SERVER_ERROR_MAX;
         }
 
         // Core wraps transport failures inconsistently (HttpClientRequestException for a SocketException
@@ -221,7 +869,7 @@ public abstract class AbstractFivetranConnection extends Task {
         // TLS failure or parse error never resolves by waiting, so it fails fast with its real cause.
         Throwable cause = throwable;
         for (int depth = 0; cause != null && depth < MAX_CAUSE_CHAIN_DEPTH; cause = cause.getCause(), depth++) {
-            if (cause instanceof SocketTimeoutException || cause instanceof ConnectException) {
+            if (cause instanceof SocketTimeoutException || cause instanceof ConnectException || cause instanceof CircuitBreaker.OpenException) {
                 return true;
             }
         }
@@ -0,0 +1,20 @@
+package io.kestra.plugin.fivetran;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * How a task run may use connector snapshots read by other runs of the worker; see
+ * {@link AbstractFivetranConnection#cachePolicy}.
+ */
+@Value
+@Builder
+public class CachePolicy {
+    // A snapshot at most this old is served instead of reading the connector.
+    Duration ttl;
+
+    // A snapshot up to ttl + maxStaleness old is served when the read fails with a transient error.
+    Duration maxStaleness;
+}
@@ -0,0 +1,127 @@
+package io.kestra.plugin.fivetran;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A circuit breaker shared by every task of the worker JVM calling the same Fivetran base URL, so that during a
+ * Fivetran incident the tasks stop retrying against the failing API all at once. It opens once at least
+ * {@link #FAILURE_RATIO_MIN_CALLS} of the last {@link #WINDOW_SIZE} calls completed and the share of them that
+ * failed reaches the caller's failure ratio; calls are then rejected until the open duration elapsed, after which
+ * a single probe call goes through (half-open): its success closes the breaker, its failure opens it again.
+ * <p>
+ * Only a 5xx, a read timeout or a refused connection is a failure; any other response, 429 included, shows the
+ * API is up. Like {@link RateLimiter}, the thresholds are passed per call, so tasks configured differently share
+ * the same state.
+ */
+final class CircuitBreaker {
+    static final int WINDOW_SIZE = 20;
+    static final int FAILURE_RATIO_MIN_CALLS = 10;
+
+    private static final Map<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    // Outcomes of the last calls while closed, as a ring buffer: true for a failure.
+    private final boolean[] window = new boolean[WINDOW_SIZE];
+    private int next;
+    private int calls;
+    private int failures;
+
+    private State state = State.CLOSED;
+    // In System.nanoTime(): when the breaker opened, or when the current probe started while half-open.
+    private long sinceNanos;
+
+    private CircuitBreaker() {
+    }
+
+    static CircuitBreaker of(String baseUrl) {
+        return BREAKERS.computeIfAbsent(baseUrl, k -> new CircuitBreaker());
+    }
+
+    /**
+     * Asks to send a call, and returns 0 when it may, or how long, in nanoseconds, the breaker stays open
+     * otherwise. Once open for {@code openDuration}, the first caller is let through as the probe; a probe that
+     * never reports its outcome is replaced by another one after a further {@code openDuration}.
+     */
+    synchronized long tryAcquireNanos(Duration openDuration) {
+        if (state == State.CLOSED) {
+            return 0L;
+        }
+        long now = System.nanoTime();
+        long remaining = openDuration.toNanos() - (now - sinceNanos);
+        if (remaining > 0) {
+            return remaining;
+        }
+        state = State.HALF_OPEN;
+        sinceNanos = now;
+        return 0L;
+    }
+
+    /**
+     * Records the outcome of a call that was let through.
+     *
+     * @param failed Whether the call failed with a 5xx, a read timeout or a refused connection.
+     * @param failureRatio The share of failed calls in the window that opens the breaker, in (0, 1].
+     */
+    synchronized void record(boolean failed, double failureRatio) {
+        switch (state) {
+            case HALF_OPEN -> {
+                if (failed) {
+                    this.open();
+                } else {
+                    this.close();
+                }
+            }
+            case CLOSED -> {
+                if (calls == WINDOW_SIZE && window[next]) {
+                    failures--;
+                }
+                window[next] = failed;
+                next = (next + 1) % WINDOW_SIZE;
+                calls = Math.min(calls + 1, WINDOW_SIZE);
+                if (failed) {
+                    failures++;
+                }
+                if (calls >= FAILURE_RATIO_MIN_CALLS && failures >= failureRatio * calls) {
+                    this.open();
+                }
+            }
+            // A call sent before the breaker opened: its outcome no longer matters.
+            case OPEN -> {
+            }
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        sinceNanos = System.nanoTime();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        calls = 0;
+        failures = 0;
+    }
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * The cause of a call rejected by an open breaker. It counts as a transient failure, so a poll loop keeps
+     * polling through it instead of failing the sync.
+     */
+    static final class OpenException extends IOException {
+        OpenException(String baseUrl, Duration remaining) {
+            super("Circuit breaker for " + baseUrl + " is open after repeated Fivetran failures, next probe in " + remaining);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.kestra.plugin.fivetran;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.kestra.plugin.fivetran.models.Connector;
+
+/**
+ * Connector snapshots shared by every task of the worker JVM, so flows reading the same connectors within
+ * seconds of each other are served one read, and a snapshot can be revalidated through a conditional GET
+ * instead of downloaded again. Bounded to {@code maxEntries}, evicting the least recently used snapshot first.
+ * Entries carry no expiry of their own: each reader decides from an entry's age whether it is recent enough,
+ * according to its own {@link CachePolicy}.
+ */
+final class ConnectorCache {
+    private final Map<String, Entry> entries;
+
+    ConnectorCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    synchronized void put(String key, Connector connector) {
+        this.put(key, connector, null, null);
+    }
+
+    synchronized void put(String key, Connector connector, String etag, String lastModified) {
+        entries.put(key, new Entry(connector, etag, lastModified, System.nanoTime()));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    // etag and lastModified are the validators the API sent along with the snapshot, if any.
+    record Entry(Connector connector, String etag, String lastModified, long storedAtNanos) {
+        Duration age() {
+            return Duration.ofNanos(System.nanoTime() - storedAtNanos);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.kestra.plugin.fivetran;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.runners.RunContext;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The Fivetran API client of a single task run, opened once per {@code run()} through
+ * {@link AbstractFivetranConnection#openSession(RunContext)} and closed when the run ends. Every call of the run
+ * (status reads, the sync trigger and each poll) goes through the same pooled HTTP client, so keep-alive
+ * connections are reused instead of paying a new TLS handshake per call.
+ */
+@Getter
+public final class FivetranSession implements Closeable {
+    private final RunContext runContext;
+
+    private final String baseUrl;
+
+    // Identifies the Fivetran account (base URL + API key) for JVM-wide state, without holding the raw key.
+    @Getter(AccessLevel.NONE)
+    final String accountKey;
+
+    @Getter(AccessLevel.NONE)
+    final HttpClient client;
+
+    @Getter(AccessLevel.NONE)
+    final int maxAttempts;
+
+    @Getter(AccessLevel.NONE)
+    final Duration initialRetryDelay;
+
+    @Getter(AccessLevel.NONE)
+    final RetryJitter retryJitter;
+
+    // Null when client-side rate limiting is disabled.
+    @Getter(AccessLevel.NONE)
+    final RateLimiter rateLimiter;
+
+    @Getter(AccessLevel.NONE)
+    final double rateLimitPerSecond;
+
+    @Getter(AccessLevel.NONE)
+    final int rateLimitBurst;
+
+    @Getter(AccessLevel.NONE)
+    final LongAdder rateLimitWaitNanos = new LongAdder();
+
+    // Null when the run's retries are not budgeted.
+    @Getter(AccessLevel.NONE)
+    final RetryBudget retryBudget;
+
+    // Null when the circuit breaker is disabled.
+    @Getter(AccessLevel.NONE)
+    final CircuitBreaker circuitBreaker;
+
+    @Getter(AccessLevel.NONE)
+    final double circuitBreakerFailureRatio;
+
+    @Getter(AccessLevel.NONE)
+    final Duration circuitBreakerOpenDuration;
+
+    // Null when this run does not use the shared connector cache.
+    @Getter(AccessLevel.NONE)
+    final CachePolicy cachePolicy;
+
+    @Getter(AccessLevel.NONE)
+    final LongAdder cacheHits = new LongAdder();
+
+    @Getter(AccessLevel.NONE)
+    final LongAdder cacheMisses = new LongAdder();
+
+    @Getter(AccessLevel.NONE)
+    final LongAdder notModifiedReads = new LongAdder();
+
+    // Keyed by method and endpoint template, e.g. "GET /v2/connectors/{id}".
+    @Getter(AccessLevel.NONE)
+    private final Map<String, RequestMetrics> requestMetrics = new ConcurrentHashMap<>();
+
+    @Builder(access = AccessLevel.PACKAGE)
+    private FivetranSession(
+        RunContext runContext,
+        String baseUrl,
+        String accountKey,
+        HttpClient client,
+        int maxAttempts,
+        Duration initialRetryDelay,
+        RetryJitter retryJitter,
+        RateLimiter rateLimiter,
+        double rateLimitPerSecond,
+        int rateLimitBurst,
+        RetryBudget retryBudget,
+        CircuitBreaker circuitBreaker,
+        double circuitBreakerFailureRatio,
+        Duration circuitBreakerOpenDuration,
+        CachePolicy cachePolicy
+    ) {
+        this.runContext = runContext;
+        this.baseUrl = baseUrl;
+        this.accountKey = accountKey;
+        this.client = client;
+        this.maxAttempts = maxAttempts;
+        this.initialRetryDelay = initialRetryDelay;
+        this.retryJitter = retryJitter;
+        this.rateLimiter = rateLimiter;
+        this.rateLimitPerSecond = rateLimitPerSecond;
+        this.rateLimitBurst = rateLimitBurst;
+        this.retryBudget = retryBudget;
+        this.circuitBreaker = circuitBreaker;
+        this.circuitBreakerFailureRatio = circuitBreakerFailureRatio;
+        this.circuitBreakerOpenDuration = circuitBreakerOpenDuration;
+        this.cachePolicy = cachePolicy;
+    }
+
+    RequestMetrics requestMetrics(String method, String endpoint) {
+        return this.requestMetrics.computeIfAbsent(method + " " + endpoint, key -> new RequestMetrics());
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.requestMetrics.forEach((key, metrics) -> {
+                int separator = key.indexOf(' ');
+                metrics.emit(this.runContext, key.substring(0, separator), key.substring(separator + 1));
+            });
+            if (this.rateLimiter != null) {
+                this.runContext.metric(Timer.of("rate.limit.wait.duration", Duration.ofNanos(this.rateLimitWaitNanos.sum())));
+            }
+            if (this.cachePolicy != null) {
+                this.runContext.metric(Counter.of("cache.hits", this.cacheHits.sum()));
+                this.runContext.metric(Counter.of("cache.misses", this.cacheMisses.sum()));
+            }
+            if (this.notModifiedReads.sum() > 0) {
+                this.runContext.metric(Counter.of("connector.not.modified", this.notModifiedReads.sum()));
+            }
+        } finally {
+            this.client.close();
+        }
+    }
+
+    static String accountKey(String baseUrl, String apiKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(baseUrl.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(apiKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory on every Java platform.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.kestra.plugin.fivetran;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+
+/**
+ * OpenTelemetry spans of the plugin, under the {@code io.kestra.plugin.fivetran} instrumentation scope. Each poll
+ * cycle of a waiting task is a {@code fivetran.poll} span, parent of a {@code fivetran.request} span per attempt
+ * of every API call made during the cycle (retries included), and carries an event per connector state change
+ * seen in the cycle. Spans go to the worker's global OpenTelemetry, so they are no-ops when tracing is disabled.
+ * <p>
+ * The OpenTelemetry API is provided by the worker, not shipped with the plugin. It is looked up once, and when the
+ * plugin's classloader does not see it every method here is a no-op, so tasks run the same without tracing. No
+ * OpenTelemetry type appears outside {@link OpenTelemetryTracing}, which is only loaded when the API is there.
+ */
+public final class FivetranTracing {
+    static final boolean AVAILABLE = isApiAvailable();
+
+    private static final RequestSpan NO_REQUEST_SPAN = (statusCode, error) -> {
+    };
+    private static final Propagation NO_PROPAGATION = new Propagation() {
+        @Override
+        public <T> Callable<T> wrap(Callable<T> task) {
+            return task;
+        }
+    };
+
+    private FivetranTracing() {
+    }
+
+    private static boolean isApiAvailable() {
+        try {
+            Class.forName("io.opentelemetry.api.GlobalOpenTelemetry", false, FivetranTracing.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Runs one poll cycle of a waiting task in a {@code fivetran.poll} span, current while the cycle runs so the
+     * requests it makes, on any thread forked through {@code forEachConcurrently}, are its children.
+     *
+     * @param task The simple name of the task, e.g. {@code Status}.
+     * @param cycle The 1-based number of the cycle.
+     */
+    public static <T> T pollCycle(String task, long cycle, Call<T> call) throws Exception {
+        return AVAILABLE ? OpenTelemetryTracing.pollCycle(task, cycle, call) : call.call();
+    }
+
+    // Records on the current poll cycle that a connector changed sync state or freshness; fresh may be null.
+    public static void connectorChanged(String connectorId, String syncState, Boolean fresh) {
+        if (AVAILABLE) {
+            OpenTelemetryTracing.connectorChanged(connectorId, syncState, fresh);
+        }
+    }
+
+    // Records on the current poll cycle that the sync a task waits on completed.
+    public static void syncCompleted(String connectorId, boolean failed) {
+        if (AVAILABLE) {
+            OpenTelemetryTracing.syncCompleted(connectorId, failed);
+        }
+    }
+
+    static RequestSpan startRequest(String method, String rawPath, String endpoint, int attempt) {
+        return AVAILABLE ? OpenTelemetryTracing.startRequest(method, connectorId(rawPath), endpoint, attempt) : NO_REQUEST_SPAN;
+    }
+
+    // The trace context of the calling thread, to carry over to the tasks it forks.
+    static Propagation currentContext() {
+        return AVAILABLE ? OpenTelemetryTracing.currentContext() : NO_PROPAGATION;
+    }
+
+    // The connector a /v2/connectors/{id}/... path is about, or null for other endpoints.
+    static String connectorId(String rawPath) {
+        String[] segments = rawPath.split("/", -1);
+        if (segments.length > 3 && segments[2].equals("connectors") && !segments[3].isEmpty()) {
+            // Keep a literal '+' as is: it is not a space in a path segment.
+            return URLDecoder.decode(segments[3].replace("+", "%2B"), StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws Exception;
+    }
+
+    // A fivetran.request span; statusCode is 0 when the attempt got no response, error is null when it succeeded.
+    @FunctionalInterface
+    interface RequestSpan {
+        void end(int statusCode, Throwable error);
+    }
+
+    interface Propagation {
+        <T> Callable<T> wrap(Callable<T> task);
+    }
+}
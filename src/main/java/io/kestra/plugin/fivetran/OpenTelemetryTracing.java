@@ -0,0 +1,112 @@
+package io.kestra.plugin.fivetran;
+
+import java.util.concurrent.Callable;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+/**
+ * The OpenTelemetry side of {@link FivetranTracing}, the only class of the plugin referring to OpenTelemetry types.
+ * The API is provided by the worker, so this class is only loaded once {@link FivetranTracing} found it there.
+ */
+final class OpenTelemetryTracing {
+    static final String INSTRUMENTATION_SCOPE = "io.kestra.plugin.fivetran";
+
+    static final AttributeKey<String> TASK = AttributeKey.stringKey("fivetran.task");
+    static final AttributeKey<Long> POLL_CYCLE = AttributeKey.longKey("fivetran.poll.cycle");
+    static final AttributeKey<String> CONNECTOR_ID = AttributeKey.stringKey("fivetran.connector.id");
+    static final AttributeKey<String> ENDPOINT = AttributeKey.stringKey("fivetran.endpoint");
+    static final AttributeKey<Long> ATTEMPT = AttributeKey.longKey("fivetran.attempt");
+    static final AttributeKey<String> SYNC_STATE = AttributeKey.stringKey("fivetran.sync.state");
+    static final AttributeKey<Boolean> FRESH = AttributeKey.booleanKey("fivetran.fresh");
+    static final AttributeKey<Boolean> FAILED = AttributeKey.booleanKey("fivetran.failed");
+    // HTTP semantic conventions.
+    static final AttributeKey<String> HTTP_REQUEST_METHOD = AttributeKey.stringKey("http.request.method");
+    static final AttributeKey<Long> HTTP_RESPONSE_STATUS_CODE = AttributeKey.longKey("http.response.status_code");
+
+    // Overrides the global OpenTelemetry when set, see use().
+    private static volatile OpenTelemetry openTelemetry;
+
+    private OpenTelemetryTracing() {
+    }
+
+    // Sends the spans to the given OpenTelemetry instead of the global one, e.g. an in-memory exporter in tests;
+    // null restores the global one.
+    static void use(OpenTelemetry override) {
+        openTelemetry = override;
+    }
+
+    private static Tracer tracer() {
+        OpenTelemetry override = openTelemetry;
+        return (override != null ? override : GlobalOpenTelemetry.get()).getTracer(INSTRUMENTATION_SCOPE);
+    }
+
+    static <T> T pollCycle(String task, long cycle, FivetranTracing.Call<T> call) throws Exception {
+        Span span = tracer().spanBuilder("fivetran.poll")
+            .setAttribute(TASK, task)
+            .setAttribute(POLL_CYCLE, cycle)
+            .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            return call.call();
+        } catch (Exception e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    static void connectorChanged(String connectorId, String syncState, Boolean fresh) {
+        var attributes = Attributes.builder().put(CONNECTOR_ID, connectorId);
+        if (syncState != null) {
+            attributes.put(SYNC_STATE, syncState);
+        }
+        if (fresh != null) {
+            attributes.put(FRESH, fresh);
+        }
+        Span.current().addEvent("fivetran.connector.changed", attributes.build());
+    }
+
+    static void syncCompleted(String connectorId, boolean failed) {
+        Span.current().addEvent("fivetran.sync.completed", Attributes.of(CONNECTOR_ID, connectorId, FAILED, failed));
+    }
+
+    static FivetranTracing.RequestSpan startRequest(String method, String connectorId, String endpoint, int attempt) {
+        var builder = tracer().spanBuilder("fivetran.request")
+            .setAttribute(HTTP_REQUEST_METHOD, method)
+            .setAttribute(ENDPOINT, endpoint)
+            .setAttribute(ATTEMPT, (long) attempt);
+        if (connectorId != null) {
+            builder.setAttribute(CONNECTOR_ID, connectorId);
+        }
+        Span span = builder.startSpan();
+        return (statusCode, error) -> {
+            if (statusCode > 0) {
+                span.setAttribute(HTTP_RESPONSE_STATUS_CODE, (long) statusCode);
+            }
+            if (error != null) {
+                span.recordException(error);
+                span.setStatus(StatusCode.ERROR);
+            }
+            span.end();
+        };
+    }
+
+    static FivetranTracing.Propagation currentContext() {
+        Context context = Context.current();
+        return new FivetranTracing.Propagation() {
+            @Override
+            public <T> Callable<T> wrap(Callable<T> task) {
+                return context.wrap(task);
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package io.kestra.plugin.fivetran;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket shared by every task of the worker JVM calling Fivetran with the same API key and base URL, so
+ * flows starting together smooth their calls client-side instead of collectively tripping the account's rate
+ * limit. Implemented as a GCRA (generic cell rate algorithm), which is a token bucket whose whole state is a
+ * single timestamp, updated lock-free with compare-and-set.
+ */
+final class RateLimiter {
+    private static final Map<String, RateLimiter> LIMITERS = new ConcurrentHashMap<>();
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    // Theoretical arrival time, in System.nanoTime(): when the bucket would be full again if no call came in.
+    private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+
+    private RateLimiter() {
+    }
+
+    static RateLimiter of(String key) {
+        return LIMITERS.computeIfAbsent(key, k -> new RateLimiter());
+    }
+
+    /**
+     * Takes one token and returns how long, in nanoseconds, the caller must wait before sending. The rate and
+     * burst are passed per call, so tasks sharing a bucket but configured differently each get their own pace
+     * against the same shared state.
+     *
+     * @param permitsPerSecond The sustained rate.
+     * @param burst How many calls may go out back-to-back once the bucket is full.
+     */
+    long reserveNanos(double permitsPerSecond, int burst) {
+        long interval = Math.max(1L, (long) (NANOS_PER_SECOND / permitsPerSecond));
+        long tolerance = interval * (Math.max(burst, 1) - 1L);
+
+        while (true) {
+            long now = System.nanoTime();
+            long current = theoreticalArrival.get();
+            // nanoTime may be negative, so compare by difference rather than with Math.max.
+            long start = current - now > 0 ? current : now;
+            long next = start + interval;
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                long allowedAt = start - tolerance;
+                return Math.max(0L, allowedAt - now);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.kestra.plugin.fivetran;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.runners.RunContext;
+
+/**
+ * Calls a task run made to one endpoint, e.g. {@code GET /v2/connectors/{id}}, summed while the run lasts and
+ * emitted once when its {@link FivetranSession} closes. A gate polling a thousand connectors would otherwise
+ * emit a metric entry per call. Besides the total time spent in attempts, the slowest attempt is kept, so a
+ * single slow call stays visible behind an average of {@code request.duration} over {@code request.attempts}.
+ */
+final class RequestMetrics {
+    final LongAdder requests = new LongAdder();
+    final LongAdder attempts = new LongAdder();
+    final LongAdder retries = new LongAdder();
+    final LongAdder tooManyRequests = new LongAdder();
+    final LongAdder serverErrors = new LongAdder();
+    // Calls that failed instead of retrying because the run's retry budget was exhausted.
+    final LongAdder retryBudgetExhausted = new LongAdder();
+    // Attempts failed fast by the open circuit breaker, without reaching Fivetran.
+    final LongAdder rejected = new LongAdder();
+    final LongAdder responseBytes = new LongAdder();
+    // Time spent in attempts, excluding the delays between them, and the longest attempt.
+    final LongAdder durationNanos = new LongAdder();
+    final LongAccumulator maxDurationNanos = new LongAccumulator(Math::max, 0L);
+    final LongAdder retryWaitNanos = new LongAdder();
+
+    void recordAttempt(long nanos) {
+        this.durationNanos.add(nanos);
+        this.maxDurationNanos.accumulate(nanos);
+    }
+
+    void emit(RunContext runContext, String method, String endpoint) {
+        String[] tags = {"method", method, "endpoint", endpoint};
+        runContext.metric(Counter.of("requests", this.requests.sum(), tags));
+        runContext.metric(Counter.of("request.attempts", this.attempts.sum(), tags));
+        runContext.metric(Timer.of("request.duration", Duration.ofNanos(this.durationNanos.sum()), tags));
+        runContext.metric(Timer.of("request.duration.max", Duration.ofNanos(this.maxDurationNanos.get()), tags));
+        runContext.metric(Counter.of("response.bytes", this.responseBytes.sum(), tags));
+        if (this.retries.sum() > 0) {
+            runContext.metric(Counter.of("request.retries", this.retries.sum(), tags));
+            runContext.metric(Timer.of("request.retry.wait.duration", Duration.ofNanos(this.retryWaitNanos.sum()), tags));
+        }
+        if (this.tooManyRequests.sum() > 0) {
+            runContext.metric(Counter.of("response.429", this.tooManyRequests.sum(), tags));
+        }
+        if (this.serverErrors.sum() > 0) {
+            runContext.metric(Counter.of("response.5xx", this.serverErrors.sum(), tags));
+        }
+        if (this.retryBudgetExhausted.sum() > 0) {
+            runContext.metric(Counter.of("retry.budget.exhausted", this.retryBudgetExhausted.sum(), tags));
+        }
+        if (this.rejected.sum() > 0) {
+            runContext.metric(Counter.of("circuit.breaker.rejected", this.rejected.sum(), tags));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.kestra.plugin.fivetran;
+
+import java.util.Arrays;
+
+/**
+ * Caps the retries of one task run to a share of its calls over the last {@link #WINDOW_SECONDS} seconds, so a
+ * gate reading hundreds of connectors during an API blip does not multiply its calls by {@code maxAttempts},
+ * while an isolated transient error is still retried: {@link #MIN_RETRIES} retries are always allowed per window.
+ * Counts are kept in one-second buckets, a bucket being reset when the window moves past it.
+ */
+final class RetryBudget {
+    static final int WINDOW_SECONDS = 10;
+    static final int MIN_RETRIES = 10;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double ratio;
+    private final long originNanos = System.nanoTime();
+
+    // Indexed by second modulo the window; seconds[i] is the second the counts of bucket i belong to.
+    private final long[] seconds = new long[WINDOW_SECONDS];
+    private final int[] requests = new int[WINDOW_SECONDS];
+    private final int[] retries = new int[WINDOW_SECONDS];
+
+    /**
+     * @param ratio The retries allowed per call in the window, e.g. 0.2 for one retry every five calls.
+     */
+    RetryBudget(double ratio) {
+        this.ratio = ratio;
+        Arrays.fill(this.seconds, -1L);
+    }
+
+    // Records a call, i.e. its first attempt.
+    synchronized void recordRequest() {
+        this.requests[this.bucket()]++;
+    }
+
+    /**
+     * Takes a retry from the budget, returning false without taking it when the window has no retry left.
+     */
+    synchronized boolean tryRetry() {
+        int current = this.bucket();
+        long now = this.seconds[current];
+        int windowRequests = 0;
+        int windowRetries = 0;
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            if (now - this.seconds[i] < WINDOW_SECONDS) {
+                windowRequests += this.requests[i];
+                windowRetries += this.retries[i];
+            }
+        }
+        if (windowRetries >= Math.max(MIN_RETRIES, this.ratio * windowRequests)) {
+            return false;
+        }
+        this.retries[current]++;
+        return true;
+    }
+
+    // The bucket of the current second, reset first if it still holds the counts of an older second.
+    private int bucket() {
+        long second = (System.nanoTime() - this.originNanos) / NANOS_PER_SECOND;
+        int index = (int) (second % WINDOW_SECONDS);
+        if (this.seconds[index] != second) {
+            this.seconds[index] = second;
+            this.requests[index] = 0;
+            this.retries[index] = 0;
+        }
+        return index;
+    }
+}
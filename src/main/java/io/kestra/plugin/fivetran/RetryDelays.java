@@ -0,0 +1,132 @@
+package io.kestra.plugin.fivetran;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How long {@link AbstractFivetranConnection#request} waits before retrying a transient failure. A delay the
+ * server asked for wins; the exponential backoff is only the fallback when the response names none.
+ */
+final class RetryDelays {
+    static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+    // Honor the server's delay exactly, but never park a worker thread for longer than this on a single retry.
+    static final Duration MAX_SERVER_DELAY = Duration.ofMinutes(5);
+
+    // Values above this are epoch seconds (2001-09-09 onwards), below it a delta in seconds.
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+    private RetryDelays() {
+    }
+
+    /**
+     * Exponential backoff doubling from {@code initialDelay} on each failed attempt, capped at {@link #MAX_BACKOFF}.
+     */
+    static Duration backoff(Duration initialDelay, int failedAttempts) {
+        int doublings = Math.min(Math.max(failedAttempts - 1, 0), 30);
+        Duration delay = initialDelay.multipliedBy(1L << doublings);
+        return delay.compareTo(MAX_BACKOFF) > 0 || delay.isNegative() ? MAX_BACKOFF : delay;
+    }
+
+    /**
+     * The {@link #backoff} randomized according to {@code jitter}, never above {@link #MAX_BACKOFF}.
+     *
+     * @param previousDelay The delay before the previous attempt of the same call, or null on the first retry;
+     * only used by {@link RetryJitter#DECORRELATED}.
+     */
+    static Duration jitteredBackoff(RetryJitter jitter, Duration initialDelay, int failedAttempts, Duration previousDelay) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (jitter) {
+            case NONE -> backoff(initialDelay, failedAttempts);
+            case FULL -> Duration.ofNanos(random.nextLong(backoff(initialDelay, failedAttempts).toNanos() + 1));
+            case EQUAL -> {
+                long half = backoff(initialDelay, failedAttempts).toNanos() / 2;
+                yield Duration.ofNanos(half + random.nextLong(half + 1));
+            }
+            case DECORRELATED -> {
+                long min = Math.min(initialDelay.toNanos(), MAX_BACKOFF.toNanos());
+                long previous = previousDelay != null ? previousDelay.toNanos() : min;
+                long max = Math.min(Math.max(previous, min) * 3, MAX_BACKOFF.toNanos());
+                yield Duration.ofNanos(min + random.nextLong(Math.max(max - min, 0) + 1));
+            }
+        };
+    }
+
+    /**
+     * The delay the server asked for: {@code Retry-After} (delta-seconds or HTTP-date) first, then the
+     * rate-limit reset headers, which only mean "wait" once the remaining quota is exhausted. Empty when the
+     * response names no usable delay.
+     */
+    static Optional<Duration> serverDelay(HttpHeaders headers, Instant now) {
+        if (headers == null) {
+            return Optional.empty();
+        }
+
+        Optional<Duration> retryAfter = headers.firstValue("Retry-After").flatMap(value -> parseRetryAfter(value, now));
+        if (retryAfter.isPresent()) {
+            return retryAfter.map(RetryDelays::capServerDelay);
+        }
+
+        Optional<Double> remaining = firstValue(headers, "X-RateLimit-Remaining", "RateLimit-Remaining").flatMap(RetryDelays::parseNumber);
+        if (remaining.isPresent() && remaining.get() > 0) {
+            return Optional.empty();
+        }
+
+        return firstValue(headers, "X-RateLimit-Reset", "RateLimit-Reset")
+            .flatMap(value -> parseReset(value, now))
+            .map(RetryDelays::capServerDelay);
+    }
+
+    static Optional<Duration> parseRetryAfter(String value, Instant now) {
+        Optional<Double> seconds = parseNumber(value);
+        if (seconds.isPresent()) {
+            return Optional.of(nonNegative(Duration.ofMillis((long) (seconds.get() * 1000))));
+        }
+
+        try {
+            Instant at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return Optional.of(nonNegative(Duration.between(now, at)));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Duration> parseReset(String value, Instant now) {
+        return parseNumber(value).map(number -> number >= EPOCH_SECONDS_THRESHOLD
+            ? nonNegative(Duration.between(now, Instant.ofEpochMilli((long) (number * 1000))))
+            : nonNegative(Duration.ofMillis((long) (number * 1000)))
+        );
+    }
+
+    private static Optional<String> firstValue(HttpHeaders headers, String... names) {
+        for (String name : names) {
+            Optional<String> value = headers.firstValue(name);
+            if (value.isPresent()) {
+                return value;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Double> parseNumber(String value) {
+        try {
+            double number = Double.parseDouble(value.trim());
+            return Double.isFinite(number) ? Optional.of(number) : Optional.empty();
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Duration nonNegative(Duration delay) {
+        return delay.isNegative() ? Duration.ZERO : delay;
+    }
+
+    private static Duration capServerDelay(Duration delay) {
+        return delay.compareTo(MAX_SERVER_DELAY) > 0 ? MAX_SERVER_DELAY : delay;
+    }
+}
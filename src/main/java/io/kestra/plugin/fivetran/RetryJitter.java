@@ -0,0 +1,15 @@
+package io.kestra.plugin.fivetran;
+
+/**
+ * How the exponential retry backoff is randomized, so that tasks failing together do not retry together.
+ */
+public enum RetryJitter {
+    // The exponential backoff as is.
+    NONE,
+    // A random delay between 0 and the exponential backoff.
+    FULL,
+    // Half the exponential backoff, plus a random delay up to the other half.
+    EQUAL,
+    // A random delay between initialRetryDelay and three times the previous delay, capped like the backoff.
+    DECORRELATED
+}
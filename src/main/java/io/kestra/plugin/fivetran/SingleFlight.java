@@ -0,0 +1,108 @@
+package io.kestra.plugin.fivetran;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.http.client.HttpClientException;
+
+/**
+ * Coalesces concurrent identical reads: while a call for a key is in flight, every other caller asking for the
+ * same key waits for it and shares its result (or its error) instead of issuing its own round trip. Nothing is
+ * cached once the call completes, so a caller arriving afterwards always gets a fresh read.
+ * <p>
+ * The call runs in the leader's task run, with its session. A leader stopped by the cancellation of its own run,
+ * i.e. interrupted, says nothing about the read itself, so its followers then make the read again instead of
+ * failing with it: the first of them to retry leads the next call.
+ */
+final class SingleFlight<T> {
+    private final Map<String, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    interface Call<T> {
+        T call() throws HttpClientException, IllegalVariableEvaluationException;
+    }
+
+    T run(String key, Call<T> call) throws HttpClientException, IllegalVariableEvaluationException {
+        while (true) {
+            CompletableFuture<T> mine = new CompletableFuture<>();
+            CompletableFuture<T> leader = inFlight.putIfAbsent(key, mine);
+            if (leader == null) {
+                return lead(key, mine, call);
+            }
+            try {
+                return await(leader);
+            } catch (CancellationException e) {
+                // The leader was interrupted: read again, as or behind a new leader.
+            }
+        }
+    }
+
+    private T lead(String key, CompletableFuture<T> mine, Call<T> call) throws HttpClientException, IllegalVariableEvaluationException {
+        T result;
+        try {
+            result = call.call();
+        } catch (HttpClientException | IllegalVariableEvaluationException | RuntimeException | Error e) {
+            // Removed before completing, so a follower retrying after a cancellation never finds this call again.
+            inFlight.remove(key, mine);
+            if (isInterruption(e)) {
+                mine.cancel(false);
+            } else {
+                mine.completeExceptionally(e);
+            }
+            throw e;
+        }
+        inFlight.remove(key, mine);
+        mine.complete(result);
+        return result;
+    }
+
+    /**
+     * Whether the leader failed because its thread was interrupted, rather than because of the read: a read
+     * timeout is an {@link InterruptedIOException} too, but a failure of the read every follower would share.
+     */
+    static boolean isInterruption(Throwable e) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException
+                || cause instanceof ClosedByInterruptException
+                || cause instanceof CancellationException
+                || (cause instanceof InterruptedIOException && !(cause instanceof SocketTimeoutException))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> T await(CompletableFuture<T> leader) throws HttpClientException, IllegalVariableEvaluationException {
+        try {
+            return leader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a concurrent identical request", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof HttpClientException hce) {
+                throw hce;
+            }
+            if (cause instanceof IllegalVariableEvaluationException ivee) {
+                throw ivee;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.kestra.plugin.fivetran;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+/**
+ * Reads API timestamps as UTC date-times, like the JavaTimeModule deserializer it replaces. Fivetran always
+ * sends {@code 2026-07-27T13:13:08.389Z}: that shape is parsed by hand, field by field, instead of through a
+ * {@code DateTimeFormatter}, which allocates a parse context and field map per value. Every connector read
+ * carries several timestamps, so this adds up when polling hundreds of connectors. Any other ISO-8601 shape
+ * falls back to the formatter.
+ */
+final class UtcDateTimeDeserializer extends StdScalarDeserializer<ZonedDateTime> {
+    UtcDateTimeDeserializer() {
+        super(ZonedDateTime.class);
+    }
+
+    @Override
+    public ZonedDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+            return (ZonedDateTime) context.handleUnexpectedToken(ZonedDateTime.class, parser);
+        }
+
+        String text = parser.getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return parse(text);
+        } catch (DateTimeException e) {
+            return (ZonedDateTime) context.handleWeirdStringValue(ZonedDateTime.class, text, e.getMessage());
+        }
+    }
+
+    static ZonedDateTime parse(String text) {
+        int length = text.length();
+        if (length >= 20 && length <= 30
+            && text.charAt(4) == '-' && text.charAt(7) == '-' && text.charAt(10) == 'T'
+            && text.charAt(13) == ':' && text.charAt(16) == ':' && text.charAt(length - 1) == 'Z'
+            && (length == 20 || (length > 21 && text.charAt(19) == '.'))) {
+            int year = digits(text, 0, 4);
+            int month = digits(text, 5, 7);
+            int day = digits(text, 8, 10);
+            int hour = digits(text, 11, 13);
+            int minute = digits(text, 14, 16);
+            int second = digits(text, 17, 19);
+            int nano = 0;
+            if (length > 20) {
+                // Scale a fraction of 1 to 9 digits to nanoseconds, e.g. ".389" to 389_000_000.
+                nano = digits(text, 20, length - 1);
+                for (int fractionDigits = length - 21; fractionDigits < 9 && nano > 0; fractionDigits++) {
+                    nano *= 10;
+                }
+            }
+            if (year >= 0 && month >= 0 && day >= 0 && hour >= 0 && minute >= 0 && second >= 0 && nano >= 0) {
+                return ZonedDateTime.of(year, month, day, hour, minute, second, nano, ZoneOffset.UTC);
+            }
+        }
+
+        return ZonedDateTime.parse(text).withZoneSameInstant(ZoneOffset.UTC);
+    }
+
+    // The non-negative number written in text[from, to), or -1 when a character is not a digit.
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
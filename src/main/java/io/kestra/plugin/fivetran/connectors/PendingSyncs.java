@@ -0,0 +1,128 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import io.kestra.core.exceptions.ResourceExpiredException;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVEntry;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Syncs triggered by {@link Sync} with {@code deferCompletion} and not seen completing yet, kept in the flow
+ * namespace's KV store so a single {@link SyncCompleted} trigger watches all of them instead of one worker thread
+ * waiting per sync. There is one entry per triggering task run, so two executions syncing the same connector each
+ * keep their own. An entry is reported by whoever {@link #claim claims} it, i.e. deletes it, so triggers
+ * watching the same namespace never report the same sync twice.
+ */
+final class PendingSyncs {
+    static final String KEY_PREFIX = "fivetran_pending_sync_";
+    // A pending sync never seen completing is forgotten after this long, so an abandoned entry does not linger.
+    private static final Duration PENDING_TTL = Duration.ofDays(7);
+
+    private PendingSyncs() {
+    }
+
+    static void register(RunContext runContext, PendingSync pendingSync) throws IOException {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("connectorId", pendingSync.getConnectorId());
+        value.put("triggeredAt", pendingSync.getTriggeredAt().toString());
+        if (pendingSync.getPreviousCompletedDate() != null) {
+            value.put("previousCompletedDate", pendingSync.getPreviousCompletedDate().toString());
+        }
+
+        store(runContext).put(
+            key(pendingSync.getConnectorId(), owner(runContext)),
+            new KVValueAndMetadata(
+                new KVMetadata("Fivetran sync of connector '" + pendingSync.getConnectorId() + "' awaiting completion", PENDING_TTL),
+                value
+            )
+        );
+    }
+
+    static List<PendingSync> list(RunContext runContext) throws Exception {
+        KVStore store = store(runContext);
+        List<String> keys = store.list().stream()
+            .map(KVEntry::key)
+            .filter(key -> key.startsWith(KEY_PREFIX))
+            .toList();
+
+        List<PendingSync> pendingSyncs = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                store.getValue(key).flatMap(kvValue -> parse(key, kvValue.value())).ifPresent(pendingSyncs::add);
+            } catch (ResourceExpiredException e) {
+                // Expired between the listing and the read: the sync is no longer watched.
+            }
+        }
+        return pendingSyncs;
+    }
+
+    /**
+     * Removes a listed pending sync, returning whether this call removed it: false when another evaluation
+     * already did, in which case that evaluation reports the sync.
+     */
+    static boolean claim(RunContext runContext, PendingSync pendingSync) throws IOException {
+        return store(runContext).delete(pendingSync.getKey());
+    }
+
+    static String key(String connectorId, String owner) {
+        return KEY_PREFIX + sanitize(connectorId) + "_" + sanitize(owner);
+    }
+
+    // KV keys only allow letters, digits, '.', '_' and '-'.
+    private static String sanitize(String value) {
+        return value.replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+
+    // The task run registering the sync; outside a task run, e.g. in a test, a key of its own.
+    private static String owner(RunContext runContext) {
+        if (runContext.getVariables().get("taskrun") instanceof Map<?, ?> taskRun && taskRun.get("id") instanceof String id) {
+            return id;
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    private static Optional<PendingSync> parse(String key, Object value) {
+        if (!(value instanceof Map<?, ?> map) || !(map.get("connectorId") instanceof String connectorId) || !(map.get("triggeredAt") instanceof String triggeredAt)) {
+            return Optional.empty();
+        }
+
+        Object previousCompletedDate = map.get("previousCompletedDate");
+        return Optional.of(PendingSync.builder()
+            .key(key)
+            .connectorId(connectorId)
+            .triggeredAt(Instant.parse(triggeredAt))
+            .previousCompletedDate(previousCompletedDate instanceof String date ? ZonedDateTime.parse(date) : null)
+            .build()
+        );
+    }
+
+    private static KVStore store(RunContext runContext) {
+        return runContext.namespaceKv(runContext.flowInfo().namespace());
+    }
+
+    @Builder
+    @Getter
+    static class PendingSync {
+        // The KV key the sync is kept under, only set on listed syncs.
+        private final String key;
+        private final String connectorId;
+        private final Instant triggeredAt;
+        // The connector's last completion read before the sync was triggered; see Sync.hasCompletedSince.
+        private final ZonedDateTime previousCompletedDate;
+    }
+}
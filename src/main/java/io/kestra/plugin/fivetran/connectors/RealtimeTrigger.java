@@ -0,0 +1,467 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.models.triggers.RealtimeTriggerInterface;
+import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.models.triggers.TriggerOutput;
+import io.kestra.core.models.triggers.TriggerService;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fivetran.FivetranSession;
+import io.kestra.plugin.fivetran.models.WebhookEvent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Schedulers;
+
+import static io.kestra.core.utils.Rethrow.throwFunction;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Start a flow on each Fivetran webhook event, such as a sync completion",
+    description = "Listens for Fivetran webhooks on `bindAddress`, `port` and `path`, rejects any request whose `X-Fivetran-Signature-256` header is not the HMAC-SHA256 of its body under `secret`, and starts one execution per accepted event as soon as it arrives. Register the endpoint as a Fivetran webhook (account or group level) with the same secret. By default only `sync_end` events start the flow. Set `reconcile: true` to also read the connector's status once the event arrives, with the connection properties; an event whose status cannot be read still starts the flow, without `connector`. The port is bound on the worker running the trigger, so two of these triggers on the same worker need different ports."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Run downstream work as soon as a connector finishes syncing",
+            code = """
+                id: fivetran_sync_end
+                namespace: company.team
+
+                tasks:
+                  - id: log
+                    type: io.kestra.plugin.core.log.Log
+                    message: "Connector {{ trigger.connectorId }} sync ended with {{ trigger.data.status }}"
+
+                triggers:
+                  - id: sync_end
+                    type: io.kestra.plugin.fivetran.connectors.RealtimeTrigger
+                    secret: "{{ secret('FIVETRAN_WEBHOOK_SECRET') }}"
+                    port: 8090
+                """
+        )
+    }
+)
+public class RealtimeTrigger extends AbstractTrigger implements RealtimeTriggerInterface, TriggerOutput<RealtimeTrigger.Output> {
+    static final String SIGNATURE_HEADER = "X-Fivetran-Signature-256";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    // Fivetran events are a few hundred bytes; anything far larger is not a Fivetran webhook.
+    private static final int MAX_BODY_BYTES = 1024 * 1024;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .registerModule(new JavaTimeModule());
+
+    @Schema(
+        title = "Webhook secret",
+        description = "The secret the Fivetran webhook was created with, used to verify the signature of every request."
+    )
+    @NotNull
+    @ToString.Exclude
+    @PluginProperty(secret = true, group = "main")
+    private Property<String> secret;
+
+    @Schema(
+        title = "Port to listen on",
+        description = "Required, since every trigger of a worker binds its own port: two triggers on the same port fail to start."
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<Integer> port;
+
+    @Schema(
+        title = "Address to listen on",
+        description = "E.g. `127.0.0.1` behind a reverse proxy on the same host. Default: `0.0.0.0`, every interface of the worker."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<String> bindAddress = Property.ofValue("0.0.0.0");
+
+    @Schema(
+        title = "Path to listen on",
+        description = "Default: `/fivetran/webhook`."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<String> path = Property.ofValue("/fivetran/webhook");
+
+    @Schema(
+        title = "Events that start the flow",
+        description = "Fivetran event names, e.g. `sync_start`, `sync_end`. Default: `sync_end` only."
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<List<String>> events = Property.ofValue(List.of("sync_end"));
+
+    @Schema(
+        title = "Connector IDs",
+        description = "Optional; only events of these connectors start the flow. By default, events of every connector do."
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> connectorIds;
+
+    @Schema(
+        title = "Read the connector status on each event",
+        description = "When true, the connector's status is read once the event arrives and exposed as `connector`, with the same fields as the `Status` task output. Requires `apiKey` and `apiSecret`. Default: false."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> reconcile = Property.ofValue(false);
+
+    @Schema(
+        title = "Fivetran API key",
+        description = "Only used with `reconcile`."
+    )
+    @ToString.Exclude
+    @PluginProperty(secret = true, group = "connection")
+    private Property<String> apiKey;
+
+    @Schema(
+        title = "Fivetran API secret",
+        description = "Only used with `reconcile`."
+    )
+    @ToString.Exclude
+    @PluginProperty(secret = true, group = "connection")
+    private Property<String> apiSecret;
+
+    @Schema(
+        title = "Fivetran API base URL",
+        description = "Only used with `reconcile`. Defaults to `https://api.fivetran.com`."
+    )
+    @Builder.Default
+    private Property<String> baseUrl = Property.ofValue("https://api.fivetran.com");
+
+    @Schema(
+        title = "HTTP client options",
+        description = "Only used with `reconcile`."
+    )
+    @PluginProperty(group = "advanced")
+    private HttpConfiguration options;
+
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final transient AtomicReference<HttpServer> server = new AtomicReference<>();
+
+    // The client session of the reconciling reads, kept for the lifetime of the trigger, see reconcile.
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final transient AtomicReference<FivetranSession> session = new AtomicReference<>();
+
+    @Override
+    public Publisher<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+        Logger logger = runContext.logger();
+
+        String rSecret = runContext.render(this.secret).as(String.class).orElseThrow();
+        int rPort = runContext.render(this.port).as(Integer.class).orElseThrow();
+        String rBindAddress = runContext.render(this.bindAddress).as(String.class).orElseThrow();
+        String rPath = runContext.render(this.path).as(String.class).orElseThrow();
+        List<String> rEvents = runContext.render(this.events).asList(String.class);
+        List<String> rConnectorIds = this.connectorIds == null ? List.of() : runContext.render(this.connectorIds).asList(String.class);
+        boolean rReconcile = runContext.render(this.reconcile).as(Boolean.class).orElse(false);
+        if (rReconcile && (this.apiKey == null || this.apiSecret == null)) {
+            throw new IllegalArgumentException("reconcile requires apiKey and apiSecret");
+        }
+
+        Status reader = rReconcile ? reconcileReader() : null;
+        Flux<WebhookEvent> events = Flux.create(sink ->
+        {
+            try {
+                // One session, and so one pooled client, for every reconciling read rather than one per event.
+                if (reader != null) {
+                    this.session.set(reader.openReadSession(runContext));
+                }
+                HttpServer httpServer = HttpServer.create(new InetSocketAddress(rBindAddress, rPort), 0);
+                httpServer.createContext(rPath, exchange -> handle(exchange, rSecret, rEvents, rConnectorIds, sink, logger));
+                httpServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+                httpServer.start();
+                this.server.set(httpServer);
+                // A sink keeps a single dispose callback, so it releases both the server and the session.
+                sink.onDispose(() ->
+                {
+                    shutdown(httpServer);
+                    closeSession();
+                });
+                logger.info("Listening for Fivetran webhooks on {}:{} at {}", rBindAddress, rPort, rPath);
+            } catch (IOException | IllegalVariableEvaluationException e) {
+                closeSession();
+                sink.error(e);
+            }
+        });
+
+        return events
+            // The reconciling read is a blocking HTTP call, so it never runs on the thread answering Fivetran.
+            .publishOn(Schedulers.boundedElastic())
+            .map(throwFunction(event -> TriggerService.generateRealtimeExecution(
+                this,
+                conditionContext,
+                context,
+                toOutput(event, reader != null ? reconcile(reader, event.getConnectorId(), logger) : null)
+            )));
+    }
+
+    private Status reconcileReader() {
+        return Status.builder()
+            .apiKey(this.apiKey)
+            .apiSecret(this.apiSecret)
+            .baseUrl(this.baseUrl)
+            .options(this.options)
+            .connectorIds(Property.ofValue(List.of()))
+            .build();
+    }
+
+    private static void shutdown(HttpServer httpServer) {
+        httpServer.stop(0);
+        ((ExecutorService) httpServer.getExecutor()).shutdownNow();
+    }
+
+    private void handle(
+        HttpExchange exchange,
+        String secret,
+        List<String> events,
+        List<String> connectorIds,
+        FluxSink<WebhookEvent> sink,
+        Logger logger) throws IOException {
+        try (exchange) {
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readNBytes(MAX_BODY_BYTES + 1);
+            }
+            if (body.length > MAX_BODY_BYTES) {
+                exchange.sendResponseHeaders(413, -1);
+                return;
+            }
+            if (!isValidSignature(body, exchange.getRequestHeaders().getFirst(SIGNATURE_HEADER), secret)) {
+                logger.warn("Rejected a Fivetran webhook with a missing or invalid signature");
+                exchange.sendResponseHeaders(401, -1);
+                return;
+            }
+
+            WebhookEvent event;
+            try {
+                event = parseEvent(body);
+            } catch (IOException e) {
+                logger.warn("Rejected a Fivetran webhook that is not a valid event: {}", e.getMessage());
+                exchange.sendResponseHeaders(400, -1);
+                return;
+            }
+
+            if (events.contains(event.getEvent()) && (connectorIds.isEmpty() || connectorIds.contains(event.getConnectorId()))) {
+                sink.next(event);
+            } else {
+                logger.debug("Ignored Fivetran '{}' event of connector '{}'", event.getEvent(), event.getConnectorId());
+            }
+            // Acknowledged either way, so Fivetran does not redeliver an event this trigger ignores on purpose.
+            exchange.sendResponseHeaders(200, -1);
+        }
+    }
+
+    /**
+     * Whether {@code signature} is the hex HMAC-SHA256 of {@code body} under {@code secret}, as Fivetran sends it
+     * in {@value #SIGNATURE_HEADER}. Compared in constant time, so response timings leak nothing about the
+     * expected value.
+     */
+    static boolean isValidSignature(byte[] body, String signature, String secret) {
+        if (signature == null || signature.isBlank()) {
+            return false;
+        }
+        String hex = signature.trim();
+        if (hex.regionMatches(true, 0, "sha256=", 0, 7)) {
+            hex = hex.substring(7);
+        }
+
+        byte[] provided;
+        try {
+            provided = HexFormat.of().parseHex(hex.toLowerCase());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(sign(body, secret), provided);
+    }
+
+    static byte[] sign(byte[] body, String secret) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            return mac.doFinal(body);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            // HmacSHA256 is mandatory on every Java platform, and any non-empty key is valid for it.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static WebhookEvent parseEvent(byte[] body) throws IOException {
+        WebhookEvent event = MAPPER.readValue(body, WebhookEvent.class);
+        if (event == null || event.getEvent() == null) {
+            throw new IOException("Missing event name");
+        }
+        return event;
+    }
+
+    /**
+     * Reads the status of the event's connector, or returns null when it cannot be read: a failing read must not
+     * end the execution stream, and the event itself is still worth starting the flow for.
+     */
+    private Status.ConnectorState reconcile(Status reader, String connectorId, Logger logger) {
+        FivetranSession fivetranSession = this.session.get();
+        if (connectorId == null || fivetranSession == null) {
+            return null;
+        }
+        try {
+            return reader.readStates(fivetranSession, List.of(connectorId), List.of()).get(connectorId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            logger.warn("Unable to read the status of connector '{}', starting the flow without it: {}", connectorId, e.getMessage());
+            return null;
+        }
+    }
+
+    private static Output toOutput(WebhookEvent event, Status.ConnectorState connector) {
+        return Output.builder()
+            .event(event.getEvent())
+            .created(event.getCreated())
+            .connectorId(event.getConnectorId())
+            .connectorName(event.getConnectorName())
+            .connectorType(event.getConnectorType())
+            .syncId(event.getSyncId())
+            .destinationGroupId(event.getDestinationGroupId())
+            .data(event.getData())
+            .connector(connector)
+            .build();
+    }
+
+    @Override
+    public void kill() {
+        stop();
+    }
+
+    @Override
+    public void stop() {
+        HttpServer httpServer = this.server.getAndSet(null);
+        if (httpServer != null) {
+            shutdown(httpServer);
+        }
+        closeSession();
+    }
+
+    private void closeSession() {
+        FivetranSession fivetranSession = this.session.getAndSet(null);
+        if (fivetranSession != null) {
+            try {
+                fivetranSession.close();
+            } catch (IOException e) {
+                // Only the pooled connections are left to release, and the trigger is going away anyway.
+            }
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Event name",
+            description = "E.g. `sync_start`, `sync_end`."
+        )
+        String event;
+
+        @Schema(
+            title = "When Fivetran emitted the event"
+        )
+        ZonedDateTime created;
+
+        @Schema(
+            title = "Connector ID"
+        )
+        String connectorId;
+
+        @Schema(
+            title = "Connector name"
+        )
+        String connectorName;
+
+        @Schema(
+            title = "Connector type",
+            description = "E.g. `postgres`, `salesforce`."
+        )
+        String connectorType;
+
+        @Schema(
+            title = "Sync ID"
+        )
+        String syncId;
+
+        @Schema(
+            title = "Destination group ID"
+        )
+        String destinationGroupId;
+
+        @Schema(
+            title = "Event details",
+            description = "For `sync_end`, `status` is `SUCCESSFUL`, `FAILURE` or `FAILURE_WITH_TASK`."
+        )
+        Map<String, Object> data;
+
+        @Schema(
+            title = "Connector status read when the event arrived",
+            description = "Only set with `reconcile: true`."
+        )
+        Status.ConnectorState connector;
+    }
+}
@@ -1,18 +1,27 @@
 package io.kestra.plugin.fivetran.connectors;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
-import io.kestra.core.http.client.HttpClientException;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
@@ -25,10 +34,14 @@ import io.kestra.core.runners.AssetEmit;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.utils.Await;
 import io.kestra.plugin.fivetran.AbstractFivetranConnection;
+import io.kestra.plugin.fivetran.CachePolicy;
+import io.kestra.plugin.fivetran.FivetranSession;
+import io.kestra.plugin.fivetran.FivetranTracing;
 import io.kestra.plugin.fivetran.models.Connector;
 import io.kestra.plugin.fivetran.models.ConnectorStatusResponse;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -88,6 +101,10 @@ import static io.kestra.core.utils.Rethrow.throwSupplier;
 )
 public class Status extends AbstractFivetranConnection implements RunnableTask<Status.Output> {
     private static final String CONNECTED_SETUP_STATE = "connected";
+    private static final String SYNCING_SYNC_STATE = "syncing";
+    // Adaptive polling never defers a read by more than this many poll frequencies.
+    static final int ADAPTIVE_MAX_DEFERRAL_POLLS = 8;
+    private static final String MANUAL_SCHEDULE_TYPE = "manual";
     private static final String TABLE_ASSET_TYPE = "io.kestra.plugin.ee.assets.Table";
 
     @Schema(
@@ -108,7 +125,7 @@ public class Status extends AbstractFivetranConnection implements RunnableTask<S
 
     @Schema(
         title = "Wait until every connector is fresh",
-        description = "When true (default), poll all connectors until each one is fresh, capped by `maxDuration`. Set to false to read each connector once and report its status without gating."
+        description = "When true (default), poll the connectors until each one is fresh, capped by `maxDuration`. A connector already fresh is not read again on later polls, so each poll only reads the ones still stale. Set to false to read each connector once and report its status without gating."
     )
     @Builder.Default
     @PluginProperty(group = "main")
@@ -138,6 +155,76 @@ public class Status extends AbstractFivetranConnection implements RunnableTask<S
     @PluginProperty(group = "advanced")
     Property<Boolean> allowTerminal = Property.ofValue(false);
 
+    @Schema(
+        title = "Maximum number of connectors read in parallel",
+        description = "Connectors are read concurrently, at most this many at a time, so a poll cycle takes about as long as the slowest read rather than the sum of all reads. The output keeps the order of `connectorIds`. Set to 1 to read them one after the other. Default: 10."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    Property<@Min(1) Integer> concurrency = Property.ofValue(10);
+
+    @Schema(
+        title = "Read connectors in bulk through their groups",
+        description = "When true, each poll lists the connectors of the groups involved once (`GET /v2/groups/{groupId}/connectors`, paginated) and resolves every requested connector from those pages, instead of sending one GET per connector. A connector missing from the listings is still read on its own. Default: false."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    Property<Boolean> bulkRead = Property.ofValue(false);
+
+    @Schema(
+        title = "Groups of the requested connectors",
+        description = "Optional, only used with `bulkRead`. Without it, the group of each connector is learned from an individual read on the first poll; with it, even the first poll is served from the group listings."
+    )
+    @PluginProperty(group = "advanced")
+    Property<List<String>> groupIds;
+
+    @Schema(
+        title = "Schedule each connector's polls around its predicted next sync",
+        description = "When true, each connector that is not fresh is read again according to its sync state and schedule: a connector idle before its next scheduled sync (its last completion plus `syncFrequency`) is not read again before then, plus a random delay within `adaptivePollingWindow` so gates waiting on the same connector do not all poll at once; a connector idle with its scheduled sync overdue is read less and less often, backing off from `pollFrequency`. A read is never deferred by more than 8 times `pollFrequency`, nor past `maxDuration`. A connector currently syncing, on a manual schedule or without a reported `syncFrequency` is still read every `pollFrequency`. Cuts idle polling for hourly or daily connectors gated with short poll frequencies. Default: false."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    Property<Boolean> adaptivePolling = Property.ofValue(false);
+
+    @Schema(
+        title = "Random delay window for adaptive polling",
+        description = "Only used with `adaptivePolling`: each scheduled poll is delayed by a random duration between zero and this window. Default: 1 minute."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    Property<Duration> adaptivePollingWindow = Property.ofValue(Duration.ofMinutes(1));
+
+    @Schema(
+        title = "Share connector snapshots with other runs on the same worker",
+        description = "When set, a connector read by any Status task of the worker in the last `cacheTtl` (same base URL, API key and connector) is served from memory instead of being read again, so many flows gating on the same connectors cost one read per `cacheTtl`. The worker keeps at most 10,000 snapshots, evicting the least recently used first. Keep it well below `pollFrequency`, as a cached snapshot may be that much older than the last sync. Disabled by default."
+    )
+    @PluginProperty(group = "advanced")
+    Property<Duration> cacheTtl;
+
+    @Schema(
+        title = "Maximum extra staleness on read errors",
+        description = "Only used with `cacheTtl`: when reading a connector fails with a transient error (timeout, connection error, HTTP 429 or 5xx once retries are exhausted), a snapshot up to `cacheTtl` plus this duration old is served instead of failing. Default: `PT0S`, never serving a snapshot older than `cacheTtl`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    Property<Duration> cacheMaxStaleness = Property.ofValue(Duration.ZERO);
+
+    @Override
+    protected CachePolicy cachePolicy(RunContext runContext) throws IllegalVariableEvaluationException {
+        Duration rCacheTtl = runContext.render(this.cacheTtl).as(Duration.class).orElse(null);
+        if (rCacheTtl == null) {
+            return null;
+        }
+        if (rCacheTtl.isNegative()) {
+            throw new IllegalArgumentException("cacheTtl must not be negative, but was " + rCacheTtl);
+        }
+        Duration rCacheMaxStaleness = runContext.render(this.cacheMaxStaleness).as(Duration.class).orElse(Duration.ZERO);
+        if (rCacheMaxStaleness.isNegative()) {
+            throw new IllegalArgumentException("cacheMaxStaleness must not be negative, but was " + rCacheMaxStaleness);
+        }
+        return CachePolicy.builder().ttl(rCacheTtl).maxStaleness(rCacheMaxStaleness).build();
+    }
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
@@ -157,106 +244,320 @@ public class Status extends AbstractFivetranConnection implements RunnableTask<S
         }
         boolean rWait = runContext.render(this.wait).as(Boolean.class).orElse(true);
         boolean rAllowTerminal = runContext.render(this.allowTerminal).as(Boolean.class).orElse(false);
-
-        if (!rWait) {
-            Map<String, Connector> connectors = fetchAll(runContext, rConnectorIds);
-            Map<String, ConnectorState> states = toStates(connectors, rFreshnessBuffer);
-            logStates(logger, states);
-            emitAssets(runContext, connectors, states);
-            return Output.builder().connectors(states).build();
+        int rConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(10);
+        if (rConcurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1, but was " + rConcurrency);
         }
+        boolean rBulkRead = runContext.render(this.bulkRead).as(Boolean.class).orElse(false);
+        List<String> rGroupIds = this.groupIds == null ? List.of() : runContext.render(this.groupIds).asList(String.class);
+
+        try (FivetranSession session = openSession(runContext)) {
+            ConnectorReader reader = new ConnectorReader(session, rConcurrency, rBulkRead, rGroupIds);
+
+            if (!rWait) {
+                Map<String, Connector> connectors = reader.read(rConnectorIds);
+                Map<String, ConnectorState> states = toStates(connectors, rFreshnessBuffer);
+                logStates(logger, states);
+                emitAssets(runContext, connectors, states);
+                return Output.builder().connectors(states).build();
+            }
+
+            Duration rPollFrequency = runContext.render(this.pollFrequency).as(Duration.class).orElse(Duration.ofSeconds(30));
+            if (rPollFrequency.isNegative() || rPollFrequency.isZero()) {
+                throw new IllegalArgumentException("pollFrequency must be a positive duration, but was " + rPollFrequency);
+            }
+            Duration rMaxDuration = runContext.render(this.maxDuration).as(Duration.class).orElse(Duration.ofHours(1));
+            if (rPollFrequency.compareTo(rMaxDuration) > 0) {
+                throw new IllegalArgumentException(
+                    "pollFrequency (" + rPollFrequency + ") must not be greater than maxDuration (" + rMaxDuration + ")"
+                );
+            }
+
+            boolean rAdaptivePolling = runContext.render(this.adaptivePolling).as(Boolean.class).orElse(false);
+            Duration rAdaptivePollingWindow = runContext.render(this.adaptivePollingWindow).as(Duration.class).orElse(Duration.ofMinutes(1));
+            if (rAdaptivePollingWindow.isNegative()) {
+                throw new IllegalArgumentException("adaptivePollingWindow must not be negative, but was " + rAdaptivePollingWindow);
+            }
+
+            AtomicReference<Exception> lastTransientError = new AtomicReference<>();
+            AtomicReference<Map<String, ConnectorState>> lastSeenStates = new AtomicReference<>();
+            AtomicReference<Map<String, Connector>> lastSeenConnectors = new AtomicReference<>();
+            // Latest read of each connector. Only the ones not fresh yet are read again on the next cycle, so
+            // the calls per cycle shrink as connectors become fresh.
+            Map<String, Connector> latest = new HashMap<>();
+            // With adaptivePolling, the earliest instant each connector is worth reading again, and how many
+            // reads in a row found it overdue but not syncing.
+            Map<String, Instant> nextReadAt = new HashMap<>();
+            Map<String, Integer> idleReads = new HashMap<>();
+
+            Map<String, ConnectorState> finalStates;
+            Instant waitStartedAt = Instant.now();
+            awaitPollPhase(runContext);
+            AtomicLong pollCycles = new AtomicLong();
+            Instant deadline = Instant.now().plus(rMaxDuration);
+            try {
+                finalStates = Await.until(
+                    throwSupplier(() -> FivetranTracing.pollCycle("Status", pollCycles.incrementAndGet(), () ->
+                    {
+                        Instant now = Instant.now();
+                        List<String> pending = notYetFresh(rConnectorIds, latest, rFreshnessBuffer);
+                        if (rAdaptivePolling) {
+                            pending = pending.stream()
+                                .filter(connectorId -> !nextReadAt.getOrDefault(connectorId, Instant.MIN).isAfter(now))
+                                .toList();
+                        }
+                        logger.debug("Reading {} of {} connector(s) not fresh yet", pending.size(), rConnectorIds.size());
+                        try {
+                            Map<String, Connector> read = pending.isEmpty() ? Map.of() : reader.read(pending);
+                            latest.putAll(read);
+                            if (rAdaptivePolling) {
+                                read.forEach((connectorId, connector) ->
+                                {
+                                    int idle = isSyncing(connector) ? 0 : idleReads.getOrDefault(connectorId, 0) + 1;
+                                    idleReads.put(connectorId, idle);
+                                    nextReadAt.put(
+                                        connectorId,
+                                        nextReadAt(connector, now, randomDelay(rAdaptivePollingWindow), idle, rPollFrequency, deadline)
+                                    );
+                                });
+                            }
+                        } catch (Exception e) {
+                            // A transient read failure does not mean the connector is stale, so keep polling.
+                            if (isRetriableTransientError(e, "GET")) {
+                                lastTransientError.set(e);
+                                logger.warn("Could not read connector status, retrying on next poll: {}", e.getMessage());
+                                return null;
+                            }
+                            throw e;
+                        }
+
+                        Map<String, Connector> current = new LinkedHashMap<>();
+                        rConnectorIds.forEach(connectorId -> current.put(connectorId, latest.get(connectorId)));
+                        Map<String, ConnectorState> states = toStates(current, rFreshnessBuffer);
+                        Map<String, ConnectorState> previousStates = lastSeenStates.get();
+                        states.forEach((connectorId, state) ->
+                        {
+                            ConnectorState previous = previousStates != null ? previousStates.get(connectorId) : null;
+                            if (previous == null
+                                || !Objects.equals(previous.getSyncState(), state.getSyncState())
+                                || !Objects.equals(previous.getFresh(), state.getFresh())) {
+                                FivetranTracing.connectorChanged(connectorId, state.getSyncState(), state.getFresh());
+                            }
+                        });
+                        lastSeenStates.set(states);
+                        lastSeenConnectors.set(current);
+
+                        for (Map.Entry<String, Connector> entry : current.entrySet()) {
+                            String connectorId = entry.getKey();
+                            Connector connector = entry.getValue();
+                            ConnectorState state = states.get(connectorId);
+
+                            // Freshness can never be determined without a sync_frequency, so waiting for it would poll forever.
+                            if (state.getFresh() == null) {
+                                throw new IllegalStateException(
+                                    "Connector '" + connectorId + "' has no sync_frequency reported by Fivetran, so freshness cannot be computed"
+                                );
+                            }
+
+                            // An already-fresh connector satisfies the gate even if now paused, so only fail
+                            // fast when it is not fresh and cannot become fresh on its own.
+                            if (!rAllowTerminal && !Boolean.TRUE.equals(state.getFresh()) && isTerminal(connector)) {
+                                throw new IllegalStateException(
+                                    "Connector '" + connectorId + "' cannot become fresh: " + terminalReason(connector)
+                                );
+                            }
+                        }
+
+                        boolean allFresh = states.values().stream().allMatch(state -> Boolean.TRUE.equals(state.getFresh()));
+                        return allFresh ? states : null;
+                    })),
+                    rPollFrequency,
+                    rMaxDuration
+                );
+            } catch (TimeoutException e) {
+                throw new TimeoutException(timeoutMessage(rMaxDuration, lastSeenStates.get(), lastTransientError.get()));
+            } finally {
+                emitWaitMetrics(runContext, pollCycles.get(), waitStartedAt);
+            }
 
-        Duration rPollFrequency = runContext.render(this.pollFrequency).as(Duration.class).orElse(Duration.ofSeconds(30));
-        if (rPollFrequency.isNegative() || rPollFrequency.isZero()) {
-            throw new IllegalArgumentException("pollFrequency must be a positive duration, but was " + rPollFrequency);
+            logStates(logger, finalStates);
+            emitAssets(runContext, lastSeenConnectors.get(), finalStates);
+            return Output.builder().connectors(finalStates).build();
         }
-        Duration rMaxDuration = runContext.render(this.maxDuration).as(Duration.class).orElse(Duration.ofHours(1));
-        if (rPollFrequency.compareTo(rMaxDuration) > 0) {
-            throw new IllegalArgumentException(
-                "pollFrequency (" + rPollFrequency + ") must not be greater than maxDuration (" + rMaxDuration + ")"
-            );
+    }
+
+    /**
+     * One read of the given connectors, plus every connector of the given groups, with this task's connection,
+     * concurrency and bulk read settings, without gating, logging or emitting assets. Used by triggers watching
+     * connectors on a schedule.
+     */
+    Map<String, ConnectorState> readStates(RunContext runContext, List<String> connectorIds, List<String> watchedGroupIds) throws Exception {
+        try (FivetranSession session = openSession(runContext)) {
+            return readStates(session, connectorIds, watchedGroupIds);
         }
+    }
 
-        AtomicReference<Exception> lastTransientError = new AtomicReference<>();
-        AtomicReference<Map<String, ConnectorState>> lastSeenStates = new AtomicReference<>();
-        AtomicReference<Map<String, Connector>> lastSeenConnectors = new AtomicReference<>();
-
-        Map<String, ConnectorState> finalStates;
-        try {
-            finalStates = Await.until(
-                throwSupplier(() ->
-                {
-                    Map<String, Connector> current;
-                    try {
-                        current = fetchAll(runContext, rConnectorIds);
-                    } catch (Exception e) {
-                        // A transient read failure does not mean the connector is stale, so keep polling.
-                        if (isRetriableTransientError(e, "GET")) {
-                            lastTransientError.set(e);
-                            logger.warn("Could not read connector status, retrying on next poll: {}", e.getMessage());
-                            return null;
-                        }
-                        throw e;
-                    }
+    /**
+     * Same as {@link #readStates(RunContext, List, List)}, through a session opened with
+     * {@link #openReadSession(RunContext)} that the caller keeps across reads, e.g. for the lifetime of a trigger.
+     */
+    Map<String, ConnectorState> readStates(FivetranSession session, List<String> connectorIds, List<String> watchedGroupIds) throws Exception {
+        RunContext runContext = session.getRunContext();
+        int rConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(10);
+        boolean rBulkRead = runContext.render(this.bulkRead).as(Boolean.class).orElse(false);
+        List<String> rGroupIds = this.groupIds == null ? List.of() : runContext.render(this.groupIds).asList(String.class);
+
+        Map<String, Connector> connectors = new LinkedHashMap<>(new ConnectorReader(session, rConcurrency, rBulkRead, rGroupIds).read(connectorIds));
+        Map<String, List<Connector>> listings = forEachConcurrently(watchedGroupIds, rConcurrency, groupId -> fetchGroupConnectors(session, groupId));
+        listings.values().forEach(groupConnectors -> groupConnectors.stream()
+            .filter(connector -> connector.getId() != null)
+            .forEach(connector -> connectors.putIfAbsent(connector.getId(), connector))
+        );
+        return toStates(connectors, Duration.ZERO);
+    }
 
-                    Map<String, ConnectorState> states = toStates(current, rFreshnessBuffer);
-                    lastSeenStates.set(states);
-                    lastSeenConnectors.set(current);
+    // The caller closes it once its reads are over, which also emits the request metrics of all of them.
+    FivetranSession openReadSession(RunContext runContext) throws IllegalVariableEvaluationException {
+        return openSession(runContext);
+    }
 
-                    for (Map.Entry<String, Connector> entry : current.entrySet()) {
-                        String connectorId = entry.getKey();
-                        Connector connector = entry.getValue();
-                        ConnectorState state = states.get(connectorId);
+    /**
+     * Reads the requested connectors for one run, either with one GET per connector or, with {@code bulkRead},
+     * from the listings of their groups. The group of each connector is remembered across poll cycles.
+     */
+    private class ConnectorReader {
+        private final FivetranSession session;
+        private final int concurrency;
+        private final boolean bulkRead;
+        private final List<String> groupIds;
+        private final Map<String, String> groupOfConnector = new ConcurrentHashMap<>();
+
+        ConnectorReader(FivetranSession session, int concurrency, boolean bulkRead, List<String> groupIds) {
+            this.session = session;
+            this.concurrency = concurrency;
+            this.bulkRead = bulkRead;
+            this.groupIds = groupIds;
+        }
 
-                        // Freshness can never be determined without a sync_frequency, so waiting for it would poll forever.
-                        if (state.getFresh() == null) {
-                            throw new IllegalStateException(
-                                "Connector '" + connectorId + "' has no sync_frequency reported by Fivetran, so freshness cannot be computed"
-                            );
-                        }
+        Map<String, Connector> read(List<String> connectorIds) throws Exception {
+            if (!bulkRead) {
+                return forEachConcurrently(connectorIds, concurrency, connectorId -> fetchConnector(session, connectorId));
+            }
 
-                        // An already-fresh connector satisfies the gate even if now paused, so only fail
-                        // fast when it is not fresh and cannot become fresh on its own.
-                        if (!rAllowTerminal && !Boolean.TRUE.equals(state.getFresh()) && isTerminal(connector)) {
-                            throw new IllegalStateException(
-                                "Connector '" + connectorId + "' cannot become fresh: " + terminalReason(connector)
-                            );
-                        }
+            Set<String> groups = new LinkedHashSet<>();
+            boolean anyUnknownGroup = connectorIds.stream().anyMatch(connectorId -> !groupOfConnector.containsKey(connectorId));
+            if (anyUnknownGroup) {
+                groups.addAll(groupIds);
+            }
+            connectorIds.stream().map(groupOfConnector::get).filter(Objects::nonNull).forEach(groups::add);
+
+            Set<String> requested = new HashSet<>(connectorIds);
+            Map<String, Connector> listed = new HashMap<>();
+            Map<String, List<Connector>> listings = forEachConcurrently(new ArrayList<>(groups), concurrency, groupId -> fetchGroupConnectors(session, groupId));
+            for (List<Connector> groupConnectors : listings.values()) {
+                for (Connector connector : groupConnectors) {
+                    if (connector.getId() != null && requested.contains(connector.getId())) {
+                        listed.put(connector.getId(), connector);
                     }
+                }
+            }
+
+            // Not listed: group not known yet, or the connector moved to another group since the last poll.
+            List<String> missing = connectorIds.stream().filter(connectorId -> !listed.containsKey(connectorId)).toList();
+            Map<String, Connector> individually = forEachConcurrently(missing, concurrency, connectorId -> fetchConnector(session, connectorId));
+
+            Map<String, Connector> connectors = new LinkedHashMap<>();
+            for (String connectorId : connectorIds) {
+                Connector connector = listed.containsKey(connectorId) ? listed.get(connectorId) : individually.get(connectorId);
+                if (connector.getGroupId() != null) {
+                    groupOfConnector.put(connectorId, connector.getGroupId());
+                }
+                connectors.put(connectorId, connector);
+            }
+            return connectors;
+        }
+    }
+
+    /**
+     * The connectors to read on this poll cycle: never read yet, or not fresh as of now. A connector read fresh
+     * earlier is not read again until its last success falls out of the freshness window.
+     */
+    private static List<String> notYetFresh(List<String> connectorIds, Map<String, Connector> latest, Duration buffer) {
+        long bufferNanos = buffer.toNanos();
+        long nowNanos = SyncSnapshot.epochNanos(Instant.now());
+        return connectorIds.stream()
+            .filter(connectorId ->
+            {
+                Connector connector = latest.get(connectorId);
+                return connector == null || !Boolean.TRUE.equals(SyncSnapshot.of(connector).fresh(bufferNanos, nowNanos));
+            })
+            .toList();
+    }
 
-                    boolean allFresh = states.values().stream().allMatch(state -> Boolean.TRUE.equals(state.getFresh()));
-                    return allFresh ? states : null;
-                }),
-                rPollFrequency,
-                rMaxDuration
-            );
-        } catch (TimeoutException e) {
-            throw new TimeoutException(timeoutMessage(rMaxDuration, lastSeenStates.get(), lastTransientError.get()));
+    /**
+     * The earliest instant a connector read at {@code now} is worth reading again under adaptive polling, from its
+     * sync state and schedule:
+     * <ul>
+     *     <li>while it syncs, or without a schedule to predict from: {@code now}, i.e. on the next poll;</li>
+     *     <li>idle before its next scheduled sync (its last completion plus {@code syncFrequency}): that instant,
+     *     delayed by {@code delay}, since no scheduled sync can complete before;</li>
+     *     <li>idle with its scheduled sync overdue: backing off from {@code pollFrequency}, doubling with each of
+     *     the {@code idleReads} reads in a row that found it so, as the sync must start before it can complete.</li>
+     * </ul>
+     * The read is never deferred by more than {@link #ADAPTIVE_MAX_DEFERRAL_POLLS} poll frequencies, so a sync
+     * triggered out of schedule is still seen promptly, nor past the poll before {@code deadline}.
+     */
+    static Instant nextReadAt(Connector connector, Instant now, Duration delay, int idleReads, Duration pollFrequency, Instant deadline) {
+        ZonedDateTime completedDate = connector.completedDate();
+        if (completedDate == null
+            || connector.getSyncFrequency() == null
+            || MANUAL_SCHEDULE_TYPE.equals(connector.getScheduleType())
+            || isSyncing(connector)) {
+            return now;
         }
 
-        logStates(logger, finalStates);
-        emitAssets(runContext, lastSeenConnectors.get(), finalStates);
-        return Output.builder().connectors(finalStates).build();
+        Instant latest = plusPolls(now, pollFrequency, ADAPTIVE_MAX_DEFERRAL_POLLS, deadline.minus(pollFrequency));
+        Instant nextScheduledSync = completedDate.toInstant().plus(Duration.ofMinutes(connector.getSyncFrequency()));
+        Instant candidate = nextScheduledSync.isAfter(now)
+            ? nextScheduledSync.plus(delay)
+            : plusPolls(now, pollFrequency, 1L << Math.min(Math.max(idleReads - 1, 0), 30), latest);
+
+        if (candidate.isAfter(latest)) {
+            candidate = latest;
+        }
+        return candidate.isBefore(now) ? now : candidate;
     }
 
-    private Map<String, Connector> fetchAll(RunContext runContext, List<String> connectorIds)
-        throws IllegalVariableEvaluationException, HttpClientException {
-        Map<String, Connector> connectors = new LinkedHashMap<>();
-        for (String connectorId : connectorIds) {
-            connectors.put(connectorId, this.fetchConnector(runContext, connectorId));
+    // from plus polls times pollFrequency, or cap when earlier: compared before multiplying, so neither a long idle
+    // streak nor a long pollFrequency overflows the Duration or Instant arithmetic.
+    private static Instant plusPolls(Instant from, Duration pollFrequency, long polls, Instant cap) {
+        if (Duration.between(from, cap).dividedBy(polls).compareTo(pollFrequency) < 0) {
+            return cap;
         }
-        return connectors;
+        return from.plus(pollFrequency.multipliedBy(polls));
+    }
+
+    static boolean isSyncing(Connector connector) {
+        ConnectorStatusResponse status = connector.getStatus();
+        return status != null && SYNCING_SYNC_STATE.equals(status.getSyncState());
     }
 
-    private static Map<String, ConnectorState> toStates(Map<String, Connector> connectors, Duration buffer) {
-        ZonedDateTime now = ZonedDateTime.now();
+    private static Duration randomDelay(Duration window) {
+        long windowMillis = window.toMillis();
+        return windowMillis <= 0 ? Duration.ZERO : Duration.ofMillis(ThreadLocalRandom.current().nextLong(windowMillis + 1));
+    }
+
+    static Map<String, ConnectorState> toStates(Map<String, Connector> connectors, Duration buffer) {
+        long bufferNanos = buffer.toNanos();
+        long nowNanos = SyncSnapshot.epochNanos(Instant.now());
         Map<String, ConnectorState> states = new LinkedHashMap<>();
-        connectors.forEach((id, connector) -> states.put(id, toConnectorState(connector, now, buffer)));
+        connectors.forEach((id, connector) -> states.put(id, toConnectorState(connector, nowNanos, bufferNanos)));
         return states;
     }
 
-    private static ConnectorState toConnectorState(Connector connector, ZonedDateTime now, Duration buffer) {
+    private static ConnectorState toConnectorState(Connector connector, long nowNanos, long bufferNanos) {
         ConnectorStatusResponse status = connector.getStatus();
+        SyncSnapshot snapshot = SyncSnapshot.of(connector);
 
         return ConnectorState.builder()
             .id(connector.getId())
@@ -266,12 +567,12 @@ public class Status extends AbstractFivetranConnection implements RunnableTask<S
             .scheduleType(connector.getScheduleType())
             .succeededAt(connector.getSucceededAt())
             .failedAt(connector.getFailedAt())
-            .completedDate(connector.completedDate())
-            .hasFailed(connector.hasFailed())
+            .completedDate(snapshot.succeededLast() ? connector.getSucceededAt() : connector.getFailedAt())
+            .hasFailed(snapshot.hasFailed())
             .syncState(status != null ? status.getSyncState() : null)
             .setupState(status != null ? status.getSetupState() : null)
             .schemaStatus(status != null ? status.getSchemaStatus() : null)
-            .fresh(computeFresh(connector.getSucceededAt(), connector.hasFailed(), connector.getSyncFrequency(), buffer, now))
+            .fresh(snapshot.fresh(bufferNanos, nowNanos))
             .build();
     }
 
@@ -281,13 +582,13 @@ public class Status extends AbstractFivetranConnection implements RunnableTask<S
      * assert the boundary deterministically instead of racing the real clock.
      */
     static Boolean computeFresh(ZonedDateTime succeededAt, boolean hasFailed, Integer syncFrequency, Duration buffer, ZonedDateTime now) {
-        if (syncFrequency == null) {
-            return null;
-        }
-
-        return succeededAt != null
-            && !hasFailed
-            && !succeededAt.isBefore(now.minusMinutes(syncFrequency).minus(buffer));
+        return SyncSnapshot.fresh(
+            SyncSnapshot.epochNanos(succeededAt),
+            hasFailed,
+            syncFrequency != null ? syncFrequency : SyncSnapshot.NO_SYNC_FREQUENCY,
+            buffer.toNanos(),
+            SyncSnapshot.epochNanos(now)
+        );
     }
 
     // A paused connector, or one whose setup is not connected (broken, incomplete, bad-auth), can never
@@ -381,14 +682,14 @@ public class Status extends AbstractFivetranConnection implements RunnableTask<S
 
     // Sanitize each segment before joining so "." only ever appears as the delimiter: a raw segment can
     // contain "." (e.g. schema "google_sheets.destination"), which would otherwise make the id ambiguous.
-    private static String sanitizeSegment(String segment) {
+    static String sanitizeSegment(String segment) {
         return segment.replaceAll("[^a-zA-Z0-9_:-]", "_");
     }
 
     // Enforce the rest of Asset's id contract (^[a-zA-Z0-9]..., size 1-150) that per-segment sanitization
     // leaves: trim leading non-alphanumerics, fall back to a placeholder if that empties the id (e.g. "___"),
     // and cap the length.
-    private static String sanitizeAssetId(String rawId) {
+    static String sanitizeAssetId(String rawId) {
         String sanitized = rawId.replaceFirst("^[^a-zA-Z0-9]+", "");
         if (sanitized.isEmpty()) {
             sanitized = "connector";
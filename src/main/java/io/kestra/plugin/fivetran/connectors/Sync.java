@@ -1,28 +1,28 @@
 package io.kestra.plugin.fivetran.connectors;
 
-import java.net.URI;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 
-import io.kestra.core.exceptions.IllegalVariableEvaluationException;
-import io.kestra.core.http.HttpRequest;
 import io.kestra.core.http.HttpResponse;
-import io.kestra.core.http.client.HttpClientException;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
-import io.kestra.core.models.tasks.VoidOutput;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.utils.Await;
 import io.kestra.plugin.fivetran.AbstractFivetranConnection;
+import io.kestra.plugin.fivetran.FivetranSession;
+import io.kestra.plugin.fivetran.FivetranTracing;
 import io.kestra.plugin.fivetran.models.Connector;
 import io.kestra.plugin.fivetran.models.SyncResponse;
 
@@ -60,7 +60,7 @@ import static io.kestra.core.utils.Rethrow.throwSupplier;
         )
     }
 )
-public class Sync extends AbstractFivetranConnection implements RunnableTask<VoidOutput> {
+public class Sync extends AbstractFivetranConnection implements RunnableTask<Sync.Output> {
     @Schema(
         title = "Connector ID",
         description = "Identifier of the Fivetran connector to sync."
@@ -98,12 +98,28 @@ public class Sync extends AbstractFivetranConnection implements RunnableTask<Voi
     @PluginProperty(group = "advanced")
     Property<Duration> pollFrequency = Property.ofValue(Duration.ofSeconds(5));
 
+    @Schema(
+        title = "Adapt the poll frequency to the connector's past sync durations",
+        description = "When true, the duration of each successful sync is recorded in the flow namespace's KV store (smoothed over past runs), and while waiting, status reads are spaced by half of the expected remaining time, tightening to `pollFrequency` as the expected completion approaches. Completion is detected about as quickly as with fixed polling, with far fewer API calls for long syncs. The first run of a connector polls every `pollFrequency` while its history builds up. Default: false."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    Property<Boolean> adaptivePolling = Property.ofValue(false);
+
+    @Schema(
+        title = "Leave completion detection to a `SyncCompleted` trigger",
+        description = "When true, the task returns right after triggering the sync, like `wait: false`, and registers it as pending in the flow namespace's KV store. A `SyncCompleted` trigger of a flow in the same namespace then detects its completion and starts that flow, so no worker thread sits waiting on the sync. Default: false."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    Property<Boolean> deferCompletion = Property.ofValue(false);
+
     @Builder.Default
     @Getter(AccessLevel.NONE)
     private transient Map<Integer, Integer> loggedLine = new HashMap<>();
 
     @Override
-    public VoidOutput run(RunContext runContext) throws Exception {
+    public Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
         String connectorId = runContext.render(this.connectorId).as(String.class).orElseThrow();
 
@@ -112,84 +128,160 @@ public class Sync extends AbstractFivetranConnection implements RunnableTask<Voi
             throw new IllegalArgumentException("pollFrequency must be a positive duration, but was " + rPollFrequency);
         }
 
-        Connector previousConnector = fetchConnector(runContext);
-
-        HttpRequest.HttpRequestBuilder requestBuilder = HttpRequest.builder()
-            .uri(
-                URI.create(
-                    runContext.render(this.getBaseUrl()).as(String.class).orElseThrow() +
-                        "/v2/connectors/" + encodeConnectorId(connectorId) + "/sync"
-                )
-            )
-            .method("POST")
-            .body(
-                HttpRequest.JsonRequestBody.builder()
-                    .content(Map.of("force", runContext.render(this.force).as(Boolean.class).orElseThrow()))
+        try (FivetranSession session = openSession(runContext)) {
+            Connector previousConnector = fetchConnector(session, connectorId);
+            Instant triggeredAt = Instant.now();
+
+            boolean rForce = runContext.render(this.force).as(Boolean.class).orElseThrow();
+            HttpResponse<SyncResponse> syncHttpResponse = this.triggerSync(session, connectorId, rForce);
+            SyncResponse syncResponse = syncHttpResponse.getBody();
+
+            logger.info("Job status {} with response: {}", syncHttpResponse.getStatus(), syncResponse);
+
+            ZonedDateTime previousCompletedDate = previousConnector.completedDate();
+
+            if (runContext.render(this.deferCompletion).as(Boolean.class).orElse(false)) {
+                PendingSyncs.register(runContext, PendingSyncs.PendingSync.builder()
+                    .connectorId(connectorId)
+                    .triggeredAt(triggeredAt)
+                    .previousCompletedDate(previousCompletedDate)
                     .build()
-            );
+                );
+                logger.info("Connector '{}' sync registered as pending, its completion is left to a SyncCompleted trigger", connectorId);
+                return Output.builder().connectorId(connectorId).previousCompletedDate(previousCompletedDate).build();
+            }
 
-        HttpResponse<SyncResponse> syncHttpResponse = this.request(runContext, requestBuilder, SyncResponse.class);
-        SyncResponse syncResponse = syncHttpResponse.getBody();
-        if (syncResponse == null) {
-            throw new IllegalStateException("Missing body on trigger");
-        }
+            if (!runContext.render(this.wait).as(Boolean.class).orElseThrow()) {
+                return Output.builder().connectorId(connectorId).previousCompletedDate(previousCompletedDate).build();
+            }
 
-        logger.info("Job status {} with response: {}", syncHttpResponse.getStatus(), syncResponse);
+            Duration rMaxDuration = runContext.render(this.maxDuration).as(Duration.class).orElseThrow();
+            boolean rAdaptivePolling = runContext.render(this.adaptivePolling).as(Boolean.class).orElse(false);
+            Duration expectedDuration = rAdaptivePolling ? SyncDurations.expected(runContext, connectorId).orElse(null) : null;
+            if (expectedDuration != null) {
+                logger.debug("Connector '{}' syncs are expected to take about {}", connectorId, expectedDuration);
+            }
 
-        if (!runContext.render(this.wait).as(Boolean.class).orElseThrow()) {
-            return null;
-        }
+            long previousCompletedAtNanos = SyncSnapshot.epochNanos(previousCompletedDate);
+            AtomicReference<Exception> lastTransientError = new AtomicReference<>();
+            AtomicReference<Instant> nextReadAt = new AtomicReference<>(Instant.MIN);
+            AtomicReference<String> lastSyncState = new AtomicReference<>();
+            Connector finalConnector;
+            Instant waitStartedAt = Instant.now();
+            awaitPollPhase(runContext);
+            AtomicLong pollCycles = new AtomicLong();
+            try {
+                finalConnector = Await.until(
+                    throwSupplier(() -> FivetranTracing.pollCycle("Sync", pollCycles.incrementAndGet(), () ->
+                    {
+                        Instant now = Instant.now();
+                        if (expectedDuration != null) {
+                            if (now.isBefore(nextReadAt.get())) {
+                                return null;
+                            }
+                            nextReadAt.set(now.plus(SyncDurations.nextPollDelay(expectedDuration, Duration.between(triggeredAt, now), rPollFrequency)));
+                        }
 
-        ZonedDateTime previousCompletedDate = previousConnector.completedDate();
-        Duration rMaxDuration = runContext.render(this.maxDuration).as(Duration.class).orElseThrow();
-        AtomicReference<Exception> lastTransientError = new AtomicReference<>();
-        Connector finalConnector;
-        try {
-            finalConnector = Await.until(
-                throwSupplier(() ->
-                {
-                    Connector current;
-                    try {
-                        current = fetchConnector(runContext);
-                    } catch (Exception e) {
-                        // A transient read failure is not a sync failure, so keep polling; see isTransientReadFailure.
-                        if (isTransientReadFailure(e)) {
-                            lastTransientError.set(e);
-                            logger.warn("Could not read connector '{}' status, retrying on next poll: {}", connectorId, e.getMessage());
-                            return null;
+                        Connector current;
+                        try {
+                            current = fetchConnector(session, connectorId);
+                        } catch (Exception e) {
+                            // A transient read failure is not a sync failure, so keep polling; see isTransientReadFailure.
+                            if (isTransientReadFailure(e)) {
+                                lastTransientError.set(e);
+                                logger.warn("Could not read connector '{}' status, retrying on next poll: {}", connectorId, e.getMessage());
+                                return null;
+                            }
+                            throw e;
                         }
-                        throw e;
-                    }
 
-                    if (
-                        current.completedDate() != null
-                            && (previousCompletedDate == null || current.completedDate().isAfter(previousCompletedDate))
-                    ) {
+                        String syncState = current.getStatus() != null ? current.getStatus().getSyncState() : null;
+                        if (!Objects.equals(lastSyncState.getAndSet(syncState), syncState)) {
+                            FivetranTracing.connectorChanged(connectorId, syncState, null);
+                        }
+                        SyncSnapshot snapshot = SyncSnapshot.of(current);
+                        if (!snapshot.hasCompletedSince(previousCompletedAtNanos)) {
+                            return null;
+                        }
+                        FivetranTracing.syncCompleted(connectorId, snapshot.hasFailed());
                         return current;
-                    }
-                    return null;
-                }),
-                rPollFrequency,
-                rMaxDuration
-            );
-        } catch (TimeoutException e) {
-            // If polling only ever saw transient errors, name the last one so the failure is diagnosable
-            // instead of surfacing Await's generic "failed to terminate" message with no cause.
-            Exception last = lastTransientError.get();
-            if (last == null) {
-                throw e;
+                    })),
+                    rPollFrequency,
+                    rMaxDuration
+                );
+            } catch (TimeoutException e) {
+                // If polling only ever saw transient errors, name the last one so the failure is diagnosable
+                // instead of surfacing Await's generic "failed to terminate" message with no cause.
+                Exception last = lastTransientError.get();
+                if (last == null) {
+                    throw e;
+                }
+                throw new TimeoutException(
+                    "Connector '" + connectorId + "' did not complete within " + rMaxDuration
+                        + ", last error while polling: " + last.getMessage()
+                );
+            } finally {
+                emitWaitMetrics(runContext, pollCycles.get(), waitStartedAt);
+            }
+
+            if (finalConnector.hasFailed()) {
+                throw new Exception("Connector '" + connectorId + "' failed: " + failureDetails(session, connectorId, finalConnector));
             }
-            throw new TimeoutException(
-                "Connector '" + connectorId + "' did not complete within " + rMaxDuration
-                    + ", last error while polling: " + last.getMessage()
-            );
+
+            if (rAdaptivePolling) {
+                SyncDurations.observed(previousConnector, rForce, triggeredAt, finalConnector.completedDate())
+                    .ifPresent(observed -> SyncDurations.record(runContext, connectorId, expectedDuration, observed));
+            }
+
+            return Output.builder()
+                .connectorId(connectorId)
+                .previousCompletedDate(previousCompletedDate)
+                .completedDate(finalConnector.completedDate())
+                .build();
         }
+    }
 
-        if (finalConnector.hasFailed()) {
-            throw new Exception("Connector '" + connectorId + "' failed: " + finalConnector);
+    /**
+     * The connector as read with every property, since the polling reads leave out the status tasks and warnings
+     * that say why a sync failed. Falls back to the last polled snapshot when that read fails too.
+     */
+    private Connector failureDetails(FivetranSession session, String connectorId, Connector polled) {
+        try {
+            return fetchConnectorDetails(session, connectorId);
+        } catch (Exception e) {
+            session.getRunContext().logger().warn("Could not read the details of failed connector '{}': {}", connectorId, e.getMessage());
+            return polled;
         }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Connector ID"
+        )
+        String connectorId;
+
+        @Schema(
+            title = "Timestamp of the last completion before the sync was triggered",
+            description = "A later completion of the connector marks the end of this sync."
+        )
+        ZonedDateTime previousCompletedDate;
+
+        @Schema(
+            title = "Timestamp of the completion of this sync",
+            description = "Only set when the task waited for the sync to complete."
+        )
+        ZonedDateTime completedDate;
+    }
 
-        return null;
+    /**
+     * Whether a connector's {@code completedDate} (success or failure) is after {@code previousCompletedDate}, its
+     * last completion read before the sync was triggered, i.e. whether the triggered sync is over.
+     */
+    static boolean hasCompletedSince(ZonedDateTime completedDate, ZonedDateTime previousCompletedDate) {
+        return completedDate != null
+            && (previousCompletedDate == null || completedDate.isAfter(previousCompletedDate));
     }
 
     /**
@@ -199,10 +291,4 @@ public class Sync extends AbstractFivetranConnection implements RunnableTask<Voi
     static boolean isTransientReadFailure(Throwable e) {
         return isRetriableTransientError(e, "GET");
     }
-
-    private Connector fetchConnector(RunContext runContext) throws IllegalVariableEvaluationException, HttpClientException {
-        String connectorId = runContext.render(this.connectorId).as(String.class).orElseThrow();
-        return this.fetchConnector(runContext, connectorId);
-    }
-
 }
@@ -0,0 +1,380 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+
+import io.kestra.core.http.client.HttpClientException;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.utils.Await;
+import io.kestra.plugin.fivetran.AbstractFivetranConnection;
+import io.kestra.plugin.fivetran.FivetranSession;
+import io.kestra.plugin.fivetran.FivetranTracing;
+import io.kestra.plugin.fivetran.models.Connector;
+import io.kestra.plugin.fivetran.models.SyncResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import static io.kestra.core.utils.Rethrow.throwSupplier;
+
+@SuperBuilder
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Trigger and optionally watch the syncs of several connectors",
+    description = "Starts the sync of every connector in `connectorIds`, at most `concurrency` at a time, then waits for all of them in a single poll loop and reports the outcome of each. Completion is detected the same way as `Sync`: a sync is over once the connector reports a completion more recent than the one read before triggering it."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: fivetran_sync_all
+                namespace: company.team
+
+                tasks:
+                  - id: sync_all
+                    type: io.kestra.plugin.fivetran.connectors.SyncAll
+                    apiKey: "{{ secret('FIVETRAN_API_KEY') }}"
+                    apiSecret: "{{ secret('FIVETRAN_API_SECRET') }}"
+                    connectorIds:
+                      - connector_id_1
+                      - connector_id_2
+                      - connector_id_3
+                """
+        )
+    }
+)
+public class SyncAll extends AbstractFivetranConnection implements RunnableTask<SyncAll.Output> {
+    @Schema(
+        title = "Connector IDs",
+        description = "Identifiers of the Fivetran connectors to sync."
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<List<String>> connectorIds;
+
+    @Schema(
+        title = "Force restart if already syncing",
+        description = "When true, cancels a running sync before starting a new one, for every connector. Default is false."
+    )
+    @Builder.Default
+    Property<Boolean> force = Property.ofValue(false);
+
+    @Schema(
+        title = "Wait for all syncs to complete",
+        description = "When true (default), poll the connectors until every sync finishes. Set to false to return right after all syncs are triggered."
+    )
+    @Builder.Default
+    Property<Boolean> wait = Property.ofValue(true);
+
+    @Schema(
+        title = "Maximum wait duration",
+        description = "Upper bound for waiting on all syncs when `wait` is true. Default is 60 minutes."
+    )
+    @Builder.Default
+    Property<Duration> maxDuration = Property.ofValue(Duration.ofMinutes(60));
+
+    @Schema(
+        title = "Poll frequency",
+        description = "Interval between status checks of the syncs still running. Default is 5 seconds."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    Property<Duration> pollFrequency = Property.ofValue(Duration.ofSeconds(5));
+
+    @Schema(
+        title = "Maximum number of parallel API calls",
+        description = "Syncs are triggered, and running syncs read, at most this many at a time. Default: 10."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    Property<@Min(1) Integer> concurrency = Property.ofValue(10);
+
+    @Schema(
+        title = "Fail the task when a sync fails",
+        description = "When true (default), the task fails once all syncs are over if any of them failed, naming the failed connectors. Set to false to only report failures in the output."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    Property<Boolean> failOnSyncFailure = Property.ofValue(true);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+        List<String> rConnectorIds = runContext.render(this.connectorIds).asList(String.class);
+        if (rConnectorIds.isEmpty()) {
+            throw new IllegalArgumentException("connectorIds must not be empty");
+        }
+        for (int i = 0; i < rConnectorIds.size(); i++) {
+            String connectorId = rConnectorIds.get(i);
+            if (connectorId == null || connectorId.isBlank()) {
+                throw new IllegalArgumentException("connectorIds[" + i + "] must not be null or blank");
+            }
+        }
+        if (rConnectorIds.stream().distinct().count() != rConnectorIds.size()) {
+            throw new IllegalArgumentException("connectorIds must not contain duplicates");
+        }
+        Duration rPollFrequency = runContext.render(this.pollFrequency).as(Duration.class).orElseThrow();
+        if (rPollFrequency.isNegative() || rPollFrequency.isZero()) {
+            throw new IllegalArgumentException("pollFrequency must be a positive duration, but was " + rPollFrequency);
+        }
+        int rConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(10);
+        if (rConcurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1, but was " + rConcurrency);
+        }
+        boolean rForce = runContext.render(this.force).as(Boolean.class).orElseThrow();
+
+        try (FivetranSession session = openSession(runContext)) {
+            // The completion read before each trigger is the baseline a later completion is compared against. A
+            // connector that cannot be read or triggered is reported as such, without holding back the others.
+            Map<String, SyncOutcome> outcomes = new LinkedHashMap<>(forEachConcurrently(rConnectorIds, rConcurrency, connectorId ->
+            {
+                try {
+                    Connector previous = fetchConnector(session, connectorId);
+                    SyncResponse syncResponse = this.triggerSync(session, connectorId, rForce).getBody();
+                    logger.info("Connector '{}' sync triggered with response: {}", connectorId, syncResponse);
+                    return SyncOutcome.builder()
+                        .connectorId(connectorId)
+                        .status(SyncStatus.TRIGGERED)
+                        .previousCompletedDate(previous.completedDate())
+                        .build();
+                } catch (HttpClientException | RuntimeException e) {
+                    // A cancelled run stops here rather than reporting every connector as not triggered.
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw e;
+                    }
+                    logger.error("Could not trigger the sync of connector '{}': {}", connectorId, e.getMessage());
+                    return SyncOutcome.builder()
+                        .connectorId(connectorId)
+                        .status(SyncStatus.TRIGGER_FAILED)
+                        .error(e.getMessage())
+                        .build();
+                }
+            }));
+
+            boolean rFailOnSyncFailure = runContext.render(this.failOnSyncFailure).as(Boolean.class).orElse(true);
+            if (!runContext.render(this.wait).as(Boolean.class).orElseThrow()) {
+                checkOutcomes(outcomes, rFailOnSyncFailure);
+                return Output.builder().connectors(outcomes).build();
+            }
+
+            Duration rMaxDuration = runContext.render(this.maxDuration).as(Duration.class).orElseThrow();
+            Map<String, Long> previousCompletedAtNanos = new HashMap<>();
+            outcomes.forEach((connectorId, outcome) -> previousCompletedAtNanos.put(connectorId, SyncSnapshot.epochNanos(outcome.getPreviousCompletedDate())));
+            AtomicReference<Exception> lastTransientError = new AtomicReference<>();
+            Instant waitStartedAt = Instant.now();
+            awaitPollPhase(runContext);
+            AtomicLong pollCycles = new AtomicLong();
+            try {
+                Await.until(
+                    throwSupplier(() -> FivetranTracing.pollCycle("SyncAll", pollCycles.incrementAndGet(), () ->
+                    {
+                        // Each connector is read on its own: a connector whose status cannot be read is retried
+                        // or reported without discarding what the others returned in the same cycle.
+                        Map<String, StatusRead> reads = forEachConcurrently(runningConnectorIds(outcomes), rConcurrency, connectorId ->
+                        {
+                            try {
+                                return new StatusRead(fetchConnector(session, connectorId), null);
+                            } catch (HttpClientException | RuntimeException e) {
+                                if (Thread.currentThread().isInterrupted()) {
+                                    throw e;
+                                }
+                                return new StatusRead(null, e);
+                            }
+                        });
+
+                        reads.forEach((connectorId, read) ->
+                        {
+                            SyncOutcome outcome = outcomes.get(connectorId);
+                            if (read.error() != null) {
+                                // A transient read failure is not a sync failure, so poll the connector again on the
+                                // next cycle; see Sync.isTransientReadFailure.
+                                if (Sync.isTransientReadFailure(read.error())) {
+                                    lastTransientError.set(read.error());
+                                    logger.warn("Could not read connector '{}' status, retrying on next poll: {}", connectorId, read.error().getMessage());
+                                } else {
+                                    logger.error("Could not read connector '{}' status: {}", connectorId, read.error().getMessage());
+                                    outcomes.put(connectorId, readFailedOutcome(outcome, read.error()));
+                                }
+                                return;
+                            }
+                            SyncSnapshot snapshot = SyncSnapshot.of(read.connector());
+                            if (snapshot.hasCompletedSince(previousCompletedAtNanos.get(connectorId))) {
+                                SyncOutcome completed = completedOutcome(outcome, read.connector(), snapshot);
+                                outcomes.put(connectorId, completed);
+                                FivetranTracing.syncCompleted(connectorId, completed.getStatus() == SyncStatus.FAILED);
+                                logger.info("Connector '{}' sync {} at {}", connectorId, completed.getStatus(), completed.getCompletedDate());
+                            }
+                        });
+
+                        return runningConnectorIds(outcomes).isEmpty() ? true : null;
+                    })),
+                    rPollFrequency,
+                    rMaxDuration
+                );
+            } catch (TimeoutException e) {
+                StringBuilder message = new StringBuilder("Connector sync(s) did not complete within ").append(rMaxDuration)
+                    .append(", still running: ").append(String.join(", ", runningConnectorIds(outcomes)));
+                Exception last = lastTransientError.get();
+                if (last != null) {
+                    message.append("; last error while polling: ").append(last.getMessage());
+                }
+                throw new TimeoutException(message.toString());
+            } finally {
+                emitWaitMetrics(runContext, pollCycles.get(), waitStartedAt);
+            }
+
+            checkOutcomes(outcomes, rFailOnSyncFailure);
+            return Output.builder().connectors(outcomes).build();
+        }
+    }
+
+    // Fails naming the syncs that failed, could not be triggered or could not be read, unless failOnSyncFailure is false.
+    private static void checkOutcomes(Map<String, SyncOutcome> outcomes, boolean failOnSyncFailure) throws Exception {
+        if (!failOnSyncFailure) {
+            return;
+        }
+        List<String> failed = new ArrayList<>();
+        List<String> triggerFailed = new ArrayList<>();
+        List<String> readFailed = new ArrayList<>();
+        outcomes.values().forEach(outcome ->
+        {
+            if (outcome.getStatus() == SyncStatus.FAILED) {
+                failed.add("'" + outcome.getConnectorId() + "'");
+            } else if (outcome.getStatus() == SyncStatus.TRIGGER_FAILED) {
+                triggerFailed.add("'" + outcome.getConnectorId() + "' (" + outcome.getError() + ")");
+            } else if (outcome.getStatus() == SyncStatus.READ_FAILED) {
+                readFailed.add("'" + outcome.getConnectorId() + "' (" + outcome.getError() + ")");
+            }
+        });
+        List<String> messages = new ArrayList<>();
+        if (!failed.isEmpty()) {
+            messages.add("Connector sync(s) failed: " + String.join(", ", failed));
+        }
+        if (!triggerFailed.isEmpty()) {
+            messages.add("Connector sync(s) could not be triggered: " + String.join(", ", triggerFailed));
+        }
+        if (!readFailed.isEmpty()) {
+            messages.add("Connector sync status could not be read: " + String.join(", ", readFailed));
+        }
+        if (!messages.isEmpty()) {
+            throw new Exception(String.join("; ", messages));
+        }
+    }
+
+    private static List<String> runningConnectorIds(Map<String, SyncOutcome> outcomes) {
+        List<String> running = new ArrayList<>();
+        outcomes.forEach((connectorId, outcome) ->
+        {
+            if (outcome.getStatus() == SyncStatus.TRIGGERED) {
+                running.add(connectorId);
+            }
+        });
+        return running;
+    }
+
+    private static SyncOutcome completedOutcome(SyncOutcome triggered, Connector connector, SyncSnapshot snapshot) {
+        return SyncOutcome.builder()
+            .connectorId(triggered.getConnectorId())
+            .status(snapshot.hasFailed() ? SyncStatus.FAILED : SyncStatus.SUCCEEDED)
+            .previousCompletedDate(triggered.getPreviousCompletedDate())
+            .completedDate(connector.completedDate())
+            .succeededAt(connector.getSucceededAt())
+            .failedAt(connector.getFailedAt())
+            .build();
+    }
+
+    // The sync was triggered and may still run on Fivetran: only its outcome is unknown.
+    private static SyncOutcome readFailedOutcome(SyncOutcome triggered, Exception error) {
+        return SyncOutcome.builder()
+            .connectorId(triggered.getConnectorId())
+            .status(SyncStatus.READ_FAILED)
+            .previousCompletedDate(triggered.getPreviousCompletedDate())
+            .error(error.getMessage())
+            .build();
+    }
+
+    private record StatusRead(Connector connector, Exception error) {
+    }
+
+    public enum SyncStatus {
+        TRIGGERED,
+        SUCCEEDED,
+        FAILED,
+        TRIGGER_FAILED,
+        READ_FAILED
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Sync outcomes",
+            description = "Map of connector ID to the outcome of its sync, in the order the IDs were requested."
+        )
+        Map<String, SyncOutcome> connectors;
+    }
+
+    @Builder
+    @Getter
+    public static class SyncOutcome {
+        @Schema(
+            title = "Connector ID"
+        )
+        String connectorId;
+
+        @Schema(
+            title = "Sync outcome",
+            description = "`TRIGGERED` while the sync was not seen completing (always the case when `wait` is false), otherwise `SUCCEEDED` or `FAILED`. `TRIGGER_FAILED` when the connector could not be read or its sync could not be triggered, `READ_FAILED` when the status of the triggered sync could not be read while waiting, see `error`."
+        )
+        SyncStatus status;
+
+        @Schema(
+            title = "Timestamp of the last completion before the sync was triggered"
+        )
+        ZonedDateTime previousCompletedDate;
+
+        @Schema(
+            title = "Timestamp of the completion of this sync"
+        )
+        ZonedDateTime completedDate;
+
+        @Schema(
+            title = "Timestamp of the last successful sync"
+        )
+        ZonedDateTime succeededAt;
+
+        @Schema(
+            title = "Timestamp of the last failed sync"
+        )
+        ZonedDateTime failedAt;
+
+        @Schema(
+            title = "Why the sync could not be triggered or its status read",
+            description = "Only set when `status` is `TRIGGER_FAILED` or `READ_FAILED`."
+        )
+        String error;
+    }
+}
@@ -0,0 +1,194 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.models.triggers.PollingTriggerInterface;
+import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.models.triggers.TriggerOutput;
+import io.kestra.core.models.triggers.TriggerService;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Start a flow when syncs left pending by `Sync` complete",
+    description = "Watches every sync registered as pending by a `Sync` task with `deferCompletion: true` in the same namespace, and starts the flow once any of them completes, successfully or not. One trigger supervises all pending syncs with one batch of status reads per `interval`, instead of one worker thread waiting per sync. Each completed sync is reported once, then forgotten, even when several triggers watch the same namespace."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Kick off long syncs without holding worker threads, and react when they complete",
+            code = """
+                id: fivetran_sync_completed
+                namespace: company.team
+
+                tasks:
+                  - id: log
+                    type: io.kestra.plugin.core.log.Log
+                    message: "Completed syncs: {{ trigger.syncs }}"
+
+                triggers:
+                  - id: sync_completed
+                    type: io.kestra.plugin.fivetran.connectors.SyncCompleted
+                    apiKey: "{{ secret('FIVETRAN_API_KEY') }}"
+                    apiSecret: "{{ secret('FIVETRAN_API_SECRET') }}"
+                    interval: PT1M
+                """
+        )
+    }
+)
+public class SyncCompleted extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<SyncCompleted.Output> {
+    @Schema(
+        title = "Fivetran API key",
+        description = "Required; paired with `apiSecret` for HTTP Basic authentication."
+    )
+    @NotNull
+    @ToString.Exclude
+    @PluginProperty(secret = true, group = "connection")
+    private Property<String> apiKey;
+
+    @Schema(
+        title = "Fivetran API secret",
+        description = "Required secret token used with `apiKey` for Basic authentication."
+    )
+    @NotNull
+    @ToString.Exclude
+    @PluginProperty(secret = true, group = "connection")
+    private Property<String> apiSecret;
+
+    @Schema(
+        title = "Fivetran API base URL",
+        description = "Base endpoint for all requests. Defaults to `https://api.fivetran.com`; override for regional or private deployments."
+    )
+    @NotNull
+    @Builder.Default
+    private Property<String> baseUrl = Property.ofValue("https://api.fivetran.com");
+
+    @Schema(
+        title = "HTTP client options",
+        description = "Optional Kestra HTTP configuration (timeouts, proxy) applied to Fivetran calls."
+    )
+    @PluginProperty(group = "advanced")
+    private HttpConfiguration options;
+
+    @Schema(
+        title = "Interval between checks of the pending syncs",
+        description = "Default is 30 seconds."
+    )
+    @Builder.Default
+    private final Duration interval = Duration.ofSeconds(30);
+
+    @Schema(
+        title = "Connector IDs",
+        description = "Optional; only watch the pending syncs of these connectors. By default, every pending sync of the namespace is watched."
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> connectorIds;
+
+    @Schema(
+        title = "Maximum number of connectors read in parallel",
+        description = "Default: 10."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<@Min(1) Integer> concurrency = Property.ofValue(10);
+
+    @Schema(
+        title = "Read connectors in bulk through their groups",
+        description = "Same as `bulkRead` on `Status`: resolve the pending connectors from the listings of their groups. Default: false."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> bulkRead = Property.ofValue(false);
+
+    @Override
+    public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+        Logger logger = runContext.logger();
+
+        Set<String> watched = this.connectorIds == null ? null : new HashSet<>(runContext.render(this.connectorIds).asList(String.class));
+        List<PendingSyncs.PendingSync> pendingSyncs = PendingSyncs.list(runContext).stream()
+            .filter(pendingSync -> watched == null || watched.contains(pendingSync.getConnectorId()))
+            .toList();
+        if (pendingSyncs.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Several executions may have synced the same connector: one read serves all of them.
+        List<String> pendingConnectorIds = pendingSyncs.stream().map(PendingSyncs.PendingSync::getConnectorId).distinct().toList();
+        Map<String, Status.ConnectorState> states = Status.builder()
+            .apiKey(this.apiKey)
+            .apiSecret(this.apiSecret)
+            .baseUrl(this.baseUrl)
+            .options(this.options)
+            .concurrency(this.concurrency)
+            .bulkRead(this.bulkRead)
+            .connectorIds(Property.ofValue(pendingConnectorIds))
+            .build()
+            .readStates(runContext, pendingConnectorIds, List.of());
+
+        List<SyncAll.SyncOutcome> completed = new ArrayList<>();
+        for (PendingSyncs.PendingSync pendingSync : pendingSyncs) {
+            Status.ConnectorState state = states.get(pendingSync.getConnectorId());
+            if (state == null || !Sync.hasCompletedSince(state.getCompletedDate(), pendingSync.getPreviousCompletedDate())) {
+                continue;
+            }
+            if (!PendingSyncs.claim(runContext, pendingSync)) {
+                // Already reported by another evaluation watching this namespace.
+                continue;
+            }
+
+            completed.add(SyncAll.SyncOutcome.builder()
+                .connectorId(pendingSync.getConnectorId())
+                .status(state.isHasFailed() ? SyncAll.SyncStatus.FAILED : SyncAll.SyncStatus.SUCCEEDED)
+                .previousCompletedDate(pendingSync.getPreviousCompletedDate())
+                .completedDate(state.getCompletedDate())
+                .succeededAt(state.getSucceededAt())
+                .failedAt(state.getFailedAt())
+                .build()
+            );
+        }
+        logger.debug("{} of {} pending sync(s) completed", completed.size(), pendingSyncs.size());
+        if (completed.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(TriggerService.generateExecution(this, conditionContext, context, Output.builder().syncs(completed).build()));
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Syncs completed since the previous execution",
+            description = "The outcome of each pending sync seen completing on this check."
+        )
+        List<SyncAll.SyncOutcome> syncs;
+    }
+}
@@ -0,0 +1,95 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.kestra.plugin.fivetran.models.Connector;
+
+/**
+ * Observed sync durations per connector, kept in the flow namespace's KV store as an exponentially weighted
+ * moving average, so {@link Sync} with {@code adaptivePolling} can poll sparsely while a sync cannot be done
+ * yet and tighten polling near its expected completion. The history is an optimization only: any KV failure
+ * is logged and polling falls back to the fixed {@code pollFrequency}.
+ */
+final class SyncDurations {
+    private static final String KEY_PREFIX = "fivetran_sync_duration_";
+    // Weight of the latest observation: recent syncs dominate, a single outlier does not reset the history.
+    static final double SMOOTHING = 0.3;
+    // A connector not synced through Kestra for this long has its history forgotten.
+    private static final Duration HISTORY_TTL = Duration.ofDays(90);
+
+    private SyncDurations() {
+    }
+
+    static Optional<Duration> expected(RunContext runContext, String connectorId) {
+        try {
+            return store(runContext).getValue(key(connectorId))
+                .map(kvValue -> kvValue.value() instanceof Number millis ? Duration.ofMillis(millis.longValue()) : null)
+                .filter(duration -> !duration.isNegative() && !duration.isZero());
+        } catch (Exception e) {
+            runContext.logger().warn("Unable to read the sync duration history of connector '{}': {}", connectorId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    static void record(RunContext runContext, String connectorId, Duration previous, Duration observed) {
+        try {
+            Duration smoothed = previous == null ? observed : smooth(previous, observed);
+            store(runContext).put(
+                key(connectorId),
+                new KVValueAndMetadata(
+                    new KVMetadata("Smoothed duration of Fivetran connector '" + connectorId + "' syncs, in milliseconds", HISTORY_TTL),
+                    smoothed.toMillis()
+                )
+            );
+        } catch (Exception e) {
+            runContext.logger().warn("Unable to record the sync duration of connector '{}': {}", connectorId, e.getMessage());
+        }
+    }
+
+    /**
+     * The duration of a sync triggered at {@code triggeredAt} and completed at {@code completedDate}, when it is
+     * one: without {@code force}, triggering a connector already syncing joins the running sync, whose
+     * completion then dates a sync started before the trigger and would understate the duration. A completion
+     * dated before the trigger means clock skew, or a sync started elsewhere, not a duration either.
+     *
+     * @param beforeTrigger The connector as read right before the trigger.
+     */
+    static Optional<Duration> observed(Connector beforeTrigger, boolean force, Instant triggeredAt, ZonedDateTime completedDate) {
+        if (!force && Status.isSyncing(beforeTrigger)) {
+            return Optional.empty();
+        }
+        Duration observed = Duration.between(triggeredAt, completedDate.toInstant());
+        return observed.isNegative() || observed.isZero() ? Optional.empty() : Optional.of(observed);
+    }
+
+    static Duration smooth(Duration previous, Duration observed) {
+        return Duration.ofMillis(Math.round(SMOOTHING * observed.toMillis() + (1 - SMOOTHING) * previous.toMillis()));
+    }
+
+    /**
+     * How long to wait before the next status read when a sync expected to take {@code expected} has been
+     * running for {@code elapsed}: half of the expected remaining time, so reads thin out early in the run and
+     * tighten toward the expected completion, never more often than {@code pollFrequency}. Once the expected
+     * duration is reached, every {@code pollFrequency}, so detection latency stays that of fixed polling.
+     */
+    static Duration nextPollDelay(Duration expected, Duration elapsed, Duration pollFrequency) {
+        Duration halfRemaining = expected.minus(elapsed).dividedBy(2);
+        return halfRemaining.compareTo(pollFrequency) > 0 ? halfRemaining : pollFrequency;
+    }
+
+    // KV keys only allow letters, digits, '.', '_' and '-'.
+    static String key(String connectorId) {
+        return KEY_PREFIX + connectorId.replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+
+    private static KVStore store(RunContext runContext) {
+        return runContext.namespaceKv(runContext.flowInfo().namespace());
+    }
+}
@@ -0,0 +1,74 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+
+import io.kestra.plugin.fivetran.models.Connector;
+
+/**
+ * The part of a connector the freshness and completion checks read, as primitives: timestamps in epoch
+ * nanoseconds, or {@link #ABSENT}. Gating on hundreds of connectors, or waiting on as many syncs, every poll then
+ * compares longs instead of allocating date-times for each threshold.
+ */
+record SyncSnapshot(long succeededAtNanos, long failedAtNanos, int syncFrequencyMinutes) {
+    static final long ABSENT = Long.MIN_VALUE;
+    static final int NO_SYNC_FREQUENCY = -1;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+
+    static SyncSnapshot of(Connector connector) {
+        return new SyncSnapshot(
+            epochNanos(connector.getSucceededAt()),
+            epochNanos(connector.getFailedAt()),
+            connector.getSyncFrequency() != null ? connector.getSyncFrequency() : NO_SYNC_FREQUENCY
+        );
+    }
+
+    static long epochNanos(ZonedDateTime dateTime) {
+        return dateTime == null ? ABSENT : dateTime.toEpochSecond() * NANOS_PER_SECOND + dateTime.getNano();
+    }
+
+    static long epochNanos(Instant instant) {
+        return instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+    }
+
+    // Same rule as Connector#completedDate: the success, unless a failure is at least as recent.
+    boolean succeededLast() {
+        return succeededAtNanos != ABSENT && (failedAtNanos == ABSENT || succeededAtNanos > failedAtNanos);
+    }
+
+    // Same rule as Connector#completedDate, in epoch nanoseconds.
+    long completedAtNanos() {
+        return succeededLast() ? succeededAtNanos : failedAtNanos;
+    }
+
+    // Same rule as Sync#hasCompletedSince: a completion after previousCompletedAtNanos, or any when ABSENT.
+    boolean hasCompletedSince(long previousCompletedAtNanos) {
+        long completedAtNanos = completedAtNanos();
+        return completedAtNanos != ABSENT
+            && (previousCompletedAtNanos == ABSENT || completedAtNanos > previousCompletedAtNanos);
+    }
+
+    // Same rule as Connector#hasFailed.
+    boolean hasFailed() {
+        return failedAtNanos != ABSENT && (succeededAtNanos == ABSENT || succeededAtNanos <= failedAtNanos);
+    }
+
+    /**
+     * Fresh when the last completion was a success within syncFrequency + buffer of {@code nowNanos}, boundary
+     * inclusive. Null when Fivetran reports no sync_frequency.
+     */
+    Boolean fresh(long bufferNanos, long nowNanos) {
+        return fresh(succeededAtNanos, hasFailed(), syncFrequencyMinutes, bufferNanos, nowNanos);
+    }
+
+    static Boolean fresh(long succeededAtNanos, boolean hasFailed, int syncFrequencyMinutes, long bufferNanos, long nowNanos) {
+        if (syncFrequencyMinutes == NO_SYNC_FREQUENCY) {
+            return null;
+        }
+        return succeededAtNanos != ABSENT
+            && !hasFailed
+            && succeededAtNanos >= nowNanos - syncFrequencyMinutes * NANOS_PER_MINUTE - bufferNanos;
+    }
+}
@@ -0,0 +1,236 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+
+import io.kestra.core.exceptions.ResourceExpiredException;
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.models.triggers.PollingTriggerInterface;
+import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.models.triggers.TriggerOutput;
+import io.kestra.core.models.triggers.TriggerService;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Start a flow when watched Fivetran connectors complete a sync",
+    description = "Reads the watched connectors (`connectorIds` and every connector of `groupIds`) in one batch per `interval`, compares each connector's latest completion with the one seen on the previous check, and starts the flow when any of them completed a sync since, whether it was started by Fivetran's schedule, by hand or by a `Sync` task. The completions seen are kept in the namespace's KV store, so they survive restarts. The first check only records the current completions, so past syncs never start the flow."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Run a dbt project each time one of the warehouse connectors lands new data",
+            code = """
+                id: fivetran_connector_completed
+                namespace: company.team
+
+                tasks:
+                  - id: log
+                    type: io.kestra.plugin.core.log.Log
+                    message: "Connectors completed: {{ trigger.completions }}"
+
+                triggers:
+                  - id: connector_completed
+                    type: io.kestra.plugin.fivetran.connectors.Trigger
+                    apiKey: "{{ secret('FIVETRAN_API_KEY') }}"
+                    apiSecret: "{{ secret('FIVETRAN_API_SECRET') }}"
+                    groupIds:
+                      - warehouse_group_id
+                    interval: PT5M
+                """
+        )
+    }
+)
+public class Trigger extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<Trigger.Output> {
+    private static final String STATE_KEY_PREFIX = "fivetran_trigger_";
+
+    @Schema(
+        title = "Fivetran API key",
+        description = "Required; paired with `apiSecret` for HTTP Basic authentication."
+    )
+    @NotNull
+    @ToString.Exclude
+    @PluginProperty(secret = true, group = "connection")
+    private Property<String> apiKey;
+
+    @Schema(
+        title = "Fivetran API secret",
+        description = "Required secret token used with `apiKey` for Basic authentication."
+    )
+    @NotNull
+    @ToString.Exclude
+    @PluginProperty(secret = true, group = "connection")
+    private Property<String> apiSecret;
+
+    @Schema(
+        title = "Fivetran API base URL",
+        description = "Base endpoint for all requests. Defaults to `https://api.fivetran.com`; override for regional or private deployments."
+    )
+    @NotNull
+    @Builder.Default
+    private Property<String> baseUrl = Property.ofValue("https://api.fivetran.com");
+
+    @Schema(
+        title = "HTTP client options",
+        description = "Optional Kestra HTTP configuration (timeouts, proxy) applied to Fivetran calls."
+    )
+    @PluginProperty(group = "advanced")
+    private HttpConfiguration options;
+
+    @Schema(
+        title = "Interval between checks",
+        description = "Default is 60 seconds."
+    )
+    @Builder.Default
+    private final Duration interval = Duration.ofSeconds(60);
+
+    @Schema(
+        title = "Connector IDs",
+        description = "Connectors to watch. At least one of `connectorIds` or `groupIds` is required."
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> connectorIds;
+
+    @Schema(
+        title = "Group IDs",
+        description = "Groups whose connectors are all watched, listed with one paginated call per group and check, so connectors added to the group later are picked up."
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> groupIds;
+
+    @Schema(
+        title = "Maximum number of connectors or groups read in parallel",
+        description = "Default: 10."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<@Min(1) Integer> concurrency = Property.ofValue(10);
+
+    @Override
+    public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+        Logger logger = runContext.logger();
+
+        List<String> rConnectorIds = this.connectorIds == null ? List.of() : runContext.render(this.connectorIds).asList(String.class);
+        List<String> rGroupIds = this.groupIds == null ? List.of() : runContext.render(this.groupIds).asList(String.class);
+        if (rConnectorIds.isEmpty() && rGroupIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one of connectorIds or groupIds must be set");
+        }
+
+        Map<String, Status.ConnectorState> states = Status.builder()
+            .apiKey(this.apiKey)
+            .apiSecret(this.apiSecret)
+            .baseUrl(this.baseUrl)
+            .options(this.options)
+            .concurrency(this.concurrency)
+            .connectorIds(Property.ofValue(rConnectorIds))
+            .build()
+            .readStates(runContext, rConnectorIds, rGroupIds);
+
+        KVStore store = runContext.namespaceKv(runContext.flowInfo().namespace());
+        String stateKey = stateKey(conditionContext.getFlow().getId(), this.getId());
+        Map<String, String> lastSeen = readLastSeen(store, stateKey);
+
+        List<SyncAll.SyncOutcome> completions = new ArrayList<>();
+        Map<String, String> seen = new LinkedHashMap<>();
+        states.forEach((connectorId, state) ->
+        {
+            ZonedDateTime completedDate = state.getCompletedDate();
+            if (completedDate == null) {
+                return;
+            }
+            seen.put(connectorId, completedDate.toString());
+
+            // A connector never seen before only sets its baseline: its current completion is not a new one.
+            if (lastSeen == null || !lastSeen.containsKey(connectorId)) {
+                return;
+            }
+            ZonedDateTime previousCompletedDate = ZonedDateTime.parse(lastSeen.get(connectorId));
+            if (Sync.hasCompletedSince(completedDate, previousCompletedDate)) {
+                completions.add(SyncAll.SyncOutcome.builder()
+                    .connectorId(connectorId)
+                    .status(state.isHasFailed() ? SyncAll.SyncStatus.FAILED : SyncAll.SyncStatus.SUCCEEDED)
+                    .previousCompletedDate(previousCompletedDate)
+                    .completedDate(completedDate)
+                    .succeededAt(state.getSucceededAt())
+                    .failedAt(state.getFailedAt())
+                    .build()
+                );
+            } else {
+                // Keep the later value, so a stale read cannot move the baseline back and replay a completion.
+                seen.put(connectorId, previousCompletedDate.isAfter(completedDate) ? previousCompletedDate.toString() : completedDate.toString());
+            }
+        });
+
+        logger.debug("{} of {} watched connector(s) completed a sync since the last check", completions.size(), states.size());
+        Optional<Execution> execution = completions.isEmpty()
+            ? Optional.empty()
+            : Optional.of(TriggerService.generateExecution(this, conditionContext, context, Output.builder().completions(completions).build()));
+
+        if (!seen.equals(lastSeen)) {
+            store.put(
+                stateKey,
+                new KVValueAndMetadata(new KVMetadata("Latest Fivetran sync completion seen per connector by trigger '" + this.getId() + "'", null), seen)
+            );
+        }
+        return execution;
+    }
+
+    // KV keys only allow letters, digits, '.', '_' and '-'.
+    static String stateKey(String flowId, String triggerId) {
+        return STATE_KEY_PREFIX + (flowId + "_" + triggerId).replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+
+    // Null on the very first check, when nothing was recorded yet.
+    private static Map<String, String> readLastSeen(KVStore store, String stateKey) throws Exception {
+        try {
+            Object value = store.getValue(stateKey).map(kvValue -> kvValue.value()).orElse(null);
+            if (!(value instanceof Map<?, ?> map)) {
+                return null;
+            }
+            Map<String, String> lastSeen = new LinkedHashMap<>();
+            map.forEach((connectorId, completedDate) -> lastSeen.put(String.valueOf(connectorId), String.valueOf(completedDate)));
+            return lastSeen;
+        } catch (ResourceExpiredException e) {
+            return null;
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Sync completions since the previous check",
+            description = "One entry per watched connector that completed a sync, successfully (`SUCCEEDED`) or not (`FAILED`), since the previous check; `previousCompletedDate` is the completion seen on that check."
+        )
+        List<SyncAll.SyncOutcome> completions;
+    }
+}
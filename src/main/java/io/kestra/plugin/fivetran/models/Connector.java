@@ -8,6 +8,7 @@ import java.util.Map;
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonView;
 
 import jakarta.validation.Valid;
 import lombok.Builder;
@@ -62,13 +63,16 @@ public class Connector {
     String connectedBy;
 
     @JsonProperty("setup_tests")
+    @JsonView(Views.Full.class)
     @Valid
     List<SetupTestResultResponse> setupTests;
 
     @JsonProperty("source_sync_details")
+    @JsonView(Views.Full.class)
     Object sourceSyncDetails;
 
     @JsonProperty("created_at")
+    @JsonView(Views.Full.class)
     ZonedDateTime createdAt;
 
     @JsonProperty("failed_at")
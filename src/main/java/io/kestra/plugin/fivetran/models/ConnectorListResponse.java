@@ -0,0 +1,14 @@
+package io.kestra.plugin.fivetran.models;
+
+import lombok.Value;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Jacksonized
+@SuperBuilder
+public class ConnectorListResponse {
+    String code;
+    String message;
+    ConnectorPage data;
+}
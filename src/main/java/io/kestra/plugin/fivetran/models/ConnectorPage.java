@@ -0,0 +1,21 @@
+package io.kestra.plugin.fivetran.models;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Value;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Jacksonized
+@SuperBuilder
+public class ConnectorPage {
+    @JsonProperty("items")
+    List<Connector> items;
+
+    // Absent on the last page.
+    @JsonProperty("next_cursor")
+    String nextCursor;
+}
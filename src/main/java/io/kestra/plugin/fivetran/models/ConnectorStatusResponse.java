@@ -3,6 +3,7 @@ package io.kestra.plugin.fivetran.models;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonView;
 
 import lombok.Value;
 import lombok.experimental.SuperBuilder;
@@ -13,9 +14,11 @@ import lombok.extern.jackson.Jacksonized;
 @SuperBuilder
 public class ConnectorStatusResponse {
     @JsonProperty("tasks")
+    @JsonView(Views.Full.class)
     List<Alert> tasks;
 
     @JsonProperty("warnings")
+    @JsonView(Views.Full.class)
     List<Alert> warnings;
 
     @JsonProperty("schema_status")
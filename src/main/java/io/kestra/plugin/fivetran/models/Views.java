@@ -0,0 +1,18 @@
+package io.kestra.plugin.fivetran.models;
+
+/**
+ * Jackson views over the Fivetran models. Properties without a view belong to every view; reading with
+ * {@link Polling} skips the subtrees marked {@link Full} while parsing, so status polls never materialize
+ * setup tests or sync details they do not use.
+ */
+public final class Views {
+    private Views() {
+    }
+
+    // What the status and freshness checks read: timestamps, schedule, pause and sync/setup states.
+    public static class Polling {
+    }
+
+    public static class Full extends Polling {
+    }
+}
@@ -0,0 +1,41 @@
+package io.kestra.plugin.fivetran.models;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Value;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+// A Fivetran webhook notification, e.g. sync_start or sync_end.
+@Value
+@Jacksonized
+@SuperBuilder
+public class WebhookEvent {
+    @JsonProperty("event")
+    String event;
+
+    @JsonProperty("created")
+    ZonedDateTime created;
+
+    @JsonProperty("connector_type")
+    String connectorType;
+
+    @JsonProperty("connector_id")
+    String connectorId;
+
+    @JsonProperty("connector_name")
+    String connectorName;
+
+    @JsonProperty("sync_id")
+    String syncId;
+
+    @JsonProperty("destination_group_id")
+    String destinationGroupId;
+
+    // Event-specific details; for sync_end, `status` is SUCCESSFUL, FAILURE or FAILURE_WITH_TASK.
+    @JsonProperty("data")
+    Map<String, Object> data;
+}
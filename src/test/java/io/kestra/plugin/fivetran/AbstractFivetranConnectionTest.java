@@ -1,10 +1,21 @@
 package io.kestra.plugin.fivetran;
 
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class AbstractFivetranConnectionTest {
 
@@ -25,4 +36,119 @@ class AbstractFivetranConnectionTest {
     void encodeConnectorIdEncodesSpaceAsPercent20NotPlus() {
         assertThat(AbstractFivetranConnection.encodeConnectorId("a b"), is("a%20b"));
     }
+
+    @Test
+    @DisplayName("Should group request metrics by endpoint, replacing the resource id")
+    void endpointReplacesTheResourceId() {
+        assertThat(AbstractFivetranConnection.endpoint(URI.create("https://api.fivetran.com/v2/connectors/a%2Fb")), is("/v2/connectors/{id}"));
+        assertThat(AbstractFivetranConnection.endpoint(URI.create("https://api.fivetran.com/v2/connectors/abc/sync")), is("/v2/connectors/{id}/sync"));
+        assertThat(
+            AbstractFivetranConnection.endpoint(URI.create("https://api.fivetran.com/v2/groups/g1/connectors?limit=1000&cursor=x")),
+            is("/v2/groups/{id}/connectors")
+        );
+    }
+
+    @Test
+    @DisplayName("Should return the results in the order of the IDs, whatever order the calls complete in")
+    void forEachConcurrentlyKeepsTheOrderOfTheIds() throws Exception {
+        List<String> ids = List.of("a", "b", "c", "d");
+
+        // The later an ID comes, the sooner its call completes.
+        Map<String, String> results = AbstractFivetranConnection.forEachConcurrently(ids, ids.size(), id ->
+        {
+            Thread.sleep(50L * (ids.size() - ids.indexOf(id)));
+            return id.toUpperCase();
+        });
+
+        assertThat(List.copyOf(results.keySet()), is(ids));
+        assertThat(List.copyOf(results.values()), is(List.of("A", "B", "C", "D")));
+    }
+
+    @Test
+    @DisplayName("Should never run more calls at a time than the concurrency")
+    void forEachConcurrentlyBoundsTheCallsInFlight() throws Exception {
+        int concurrency = 3;
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        // Holds the first calls until as many as allowed run at once, so the bound is reached, not just respected.
+        CountDownLatch full = new CountDownLatch(concurrency);
+
+        AbstractFivetranConnection.forEachConcurrently(List.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j"), concurrency, id ->
+        {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                full.countDown();
+                full.await(10, TimeUnit.SECONDS);
+                Thread.sleep(10);
+                return id;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        assertThat(maxInFlight.get(), is(concurrency));
+    }
+
+    @Test
+    @DisplayName("Should rethrow the first failure and cancel the calls still running")
+    void forEachConcurrentlyRethrowsTheFirstFailureAndCancelsTheOthers() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        CountDownLatch othersStarted = new CountDownLatch(2);
+        AtomicInteger interrupted = new AtomicInteger();
+
+        Exception thrown = assertThrows(Exception.class, () -> AbstractFivetranConnection.forEachConcurrently(List.of("a", "b", "c"), 3, id ->
+        {
+            if (id.equals("a")) {
+                othersStarted.await(10, TimeUnit.SECONDS);
+                throw failure;
+            }
+            othersStarted.countDown();
+            try {
+                // Never released: only cancelling the call ends it.
+                new CountDownLatch(1).await();
+                return id;
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+                throw e;
+            }
+        }));
+
+        assertThat(thrown, sameInstance(failure));
+        // The executor waited for the cancelled calls before the failure was rethrown.
+        assertThat(interrupted.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("Should stop the calls and throw InterruptedException when the calling thread is interrupted")
+    void forEachConcurrentlyPropagatesAnInterrupt() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        AtomicInteger interrupted = new AtomicInteger();
+        AtomicReference<Exception> thrown = new AtomicReference<>();
+
+        Thread caller = Thread.ofPlatform().start(() ->
+        {
+            try {
+                AbstractFivetranConnection.forEachConcurrently(List.of("a", "b"), 2, id ->
+                {
+                    started.countDown();
+                    try {
+                        new CountDownLatch(1).await();
+                        return id;
+                    } catch (InterruptedException e) {
+                        interrupted.incrementAndGet();
+                        throw e;
+                    }
+                });
+            } catch (Exception e) {
+                thrown.set(e);
+            }
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+        caller.interrupt();
+        caller.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(caller.isAlive(), is(false));
+        assertThat(thrown.get(), instanceOf(InterruptedException.class));
+        assertThat(interrupted.get(), is(2));
+    }
 }
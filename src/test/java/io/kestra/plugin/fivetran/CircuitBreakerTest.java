@@ -0,0 +1,145 @@
+package io.kestra.plugin.fivetran;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.google.common.collect.ImmutableMap;
+
+import io.kestra.core.http.client.HttpClientRequestException;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.fivetran.connectors.Status;
+
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+@WireMockTest
+class CircuitBreakerTest {
+    private static final Duration OPEN_DURATION = Duration.ofMillis(200);
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @DisplayName("Should stay closed below the minimum number of calls, then open once the failure ratio is reached")
+    void opensOnceTheFailureRatioIsReached() {
+        CircuitBreaker breaker = CircuitBreaker.of(UUID.randomUUID().toString());
+
+        for (int i = 0; i < CircuitBreaker.FAILURE_RATIO_MIN_CALLS - 1; i++) {
+            breaker.record(true, 0.5);
+        }
+        assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+        assertThat(breaker.tryAcquireNanos(OPEN_DURATION), is(0L));
+
+        breaker.record(true, 0.5);
+        assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+        assertThat(breaker.tryAcquireNanos(OPEN_DURATION), greaterThan(0L));
+    }
+
+    @Test
+    @DisplayName("Should count only the last calls of the window, so old failures age out")
+    void oldFailuresAgeOutOfTheWindow() {
+        CircuitBreaker breaker = CircuitBreaker.of(UUID.randomUUID().toString());
+
+        // 20 successes, 9 failures, 11 successes, 9 failures: 18 failures in all, but never 10 in the last 20 calls.
+        record(breaker, false, CircuitBreaker.WINDOW_SIZE);
+        record(breaker, true, 9);
+        record(breaker, false, 11);
+        record(breaker, true, 9);
+
+        assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    @DisplayName("Should let a single probe through once the open duration elapsed, closing on its success and reopening on its failure")
+    void probesWhenHalfOpen() throws InterruptedException {
+        CircuitBreaker breaker = CircuitBreaker.of(UUID.randomUUID().toString());
+        for (int i = 0; i < CircuitBreaker.FAILURE_RATIO_MIN_CALLS; i++) {
+            breaker.record(true, 1.0);
+        }
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+        assertThat(breaker.tryAcquireNanos(OPEN_DURATION), is(0L));
+        assertThat(breaker.state(), is(CircuitBreaker.State.HALF_OPEN));
+        // The probe is in flight: no other call goes through.
+        assertThat(breaker.tryAcquireNanos(OPEN_DURATION), greaterThan(0L));
+
+        breaker.record(true, 1.0);
+        assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+        assertThat(breaker.tryAcquireNanos(OPEN_DURATION), is(0L));
+        breaker.record(false, 1.0);
+        assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+        assertThat(breaker.tryAcquireNanos(OPEN_DURATION), is(0L));
+    }
+
+    @Test
+    @DisplayName("Should fail fast once the breaker opens instead of spending every retry, with an error the poll loops treat as transient")
+    void failsFastOnceOpen(WireMockRuntimeInfo wmRuntimeInfo) {
+        // A base URL of its own, so the breaker is not shared with other tests.
+        String prefix = "/" + UUID.randomUUID();
+        String connectorId = "failing_connector";
+        stubFor(get(urlEqualTo(prefix + "/v2/connectors/" + connectorId)).willReturn(aResponse().withStatus(503)));
+
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl() + prefix))
+            .connectorIds(Property.ofValue(List.of(connectorId)))
+            .wait(Property.ofValue(false))
+            .maxAttempts(Property.ofValue(20))
+            .initialRetryDelay(Property.ofValue(Duration.ofMillis(1)))
+            .circuitBreakerFailureRatio(Property.ofValue(0.5))
+            .build();
+
+        HttpClientRequestException thrown = assertThrows(HttpClientRequestException.class, () -> task.run(runContextFactory.of(ImmutableMap.of())));
+
+        assertThat(thrown.getMessage(), containsString("Circuit breaker"));
+        assertThat(AbstractFivetranConnection.isRetriableTransientError(thrown, "GET"), is(true));
+        verify(exactly(CircuitBreaker.FAILURE_RATIO_MIN_CALLS), getRequestedFor(urlEqualTo(prefix + "/v2/connectors/" + connectorId)));
+    }
+
+    @Test
+    @DisplayName("Should reject a circuitBreakerFailureRatio outside (0, 1]")
+    void rejectsAnInvalidFailureRatio(WireMockRuntimeInfo wmRuntimeInfo) {
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of("any_connector")))
+            .wait(Property.ofValue(false))
+            .circuitBreakerFailureRatio(Property.ofValue(1.5))
+            .build();
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> task.run(runContextFactory.of(ImmutableMap.of())));
+
+        assertThat(thrown.getMessage(), containsString("circuitBreakerFailureRatio"));
+    }
+
+    private static void record(CircuitBreaker breaker, boolean failed, int calls) {
+        for (int i = 0; i < calls; i++) {
+            breaker.record(failed, 0.5);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.kestra.plugin.fivetran;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.plugin.fivetran.models.Connector;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ConnectorCacheTest {
+    @Test
+    @DisplayName("Should return the stored snapshot along with its age")
+    void returnsStoredSnapshots() {
+        ConnectorCache cache = new ConnectorCache(10);
+        Connector connector = Connector.builder().id("a").build();
+
+        cache.put("account/a", connector);
+
+        ConnectorCache.Entry entry = cache.get("account/a");
+        assertThat(entry.connector(), sameInstance(connector));
+        assertThat(entry.age().isNegative(), is(false));
+        assertThat(cache.get("account/b"), nullValue());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used snapshot once full")
+    void evictsTheLeastRecentlyUsedSnapshot() {
+        ConnectorCache cache = new ConnectorCache(2);
+        cache.put("a", Connector.builder().id("a").build());
+        cache.put("b", Connector.builder().id("b").build());
+
+        // Reading a makes b the least recently used.
+        cache.get("a");
+        cache.put("c", Connector.builder().id("c").build());
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get("a"), notNullValue());
+        assertThat(cache.get("b"), nullValue());
+        assertThat(cache.get("c"), notNullValue());
+    }
+}
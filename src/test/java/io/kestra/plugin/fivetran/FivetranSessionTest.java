@@ -0,0 +1,50 @@
+package io.kestra.plugin.fivetran;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.fivetran.connectors.Sync;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+class FivetranSessionTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @DisplayName("Should make every call of a run, the read, the trigger and each poll, over one kept-alive connection")
+    void reusesOneConnectionAcrossTheCallsOfARun() throws Exception {
+        try (FivetranSimulator simulator = FivetranSimulator.builder()
+            .connectors(1)
+            .groups(1)
+            .minSyncDuration(Duration.ofMillis(500))
+            .start()) {
+            Sync.builder()
+                .apiKey(Property.ofValue("dummy-api-key"))
+                .apiSecret(Property.ofValue("dummy-api-secret"))
+                .baseUrl(Property.ofValue(simulator.baseUrl()))
+                .connectorId(Property.ofValue(simulator.connectorIds().getFirst()))
+                .pollFrequency(Property.ofValue(Duration.ofMillis(100)))
+                .build()
+                .run(runContextFactory.of(ImmutableMap.of()));
+
+            assertThat(simulator.calls(FivetranSimulator.POST_SYNC), is(1L));
+            // The read before triggering, then at least two polls.
+            assertThat(simulator.calls(FivetranSimulator.GET_CONNECTOR), greaterThan(2L));
+            // A client per call would open a connection per call; the run's single pooled client keeps one open.
+            assertThat(simulator.connections(), is(1));
+        }
+    }
+}
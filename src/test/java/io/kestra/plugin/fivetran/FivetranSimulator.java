@@ -0,0 +1,472 @@
+package io.kestra.plugin.fivetran;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.Builder;
+
+/**
+ * An in-process stand-in for the Fivetran REST API, to load test the tasks against thousands of connectors
+ * offline. It serves {@code GET /v2/connectors/{id}}, {@code POST /v2/connectors/{id}/sync} and the paginated
+ * {@code GET /v2/groups/{groupId}/connectors}, and models:
+ * <ul>
+ *     <li>syncs lasting a random duration between {@code minSyncDuration} and {@code maxSyncDuration}, which
+ *     complete on the simulator's clock and then move {@code succeeded_at}, or {@code failed_at} for the
+ *     {@code failureRate} share of them;</li>
+ *     <li>an account-wide rate limit answering 429 with a {@code Retry-After} once exhausted;</li>
+ *     <li>a response {@link Latency} drawn per call.</li>
+ * </ul>
+ * Calls are counted per endpoint and completions are timestamped, so tests can measure calls per completion and
+ * detection latency.
+ */
+public final class FivetranSimulator implements AutoCloseable {
+    public static final String GET_CONNECTOR = "GET /v2/connectors/{id}";
+    public static final String POST_SYNC = "POST /v2/connectors/{id}/sync";
+    public static final String GET_GROUP_CONNECTORS = "GET /v2/groups/{id}/connectors";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Clock clock;
+    private final Random random;
+    private final Duration minSyncDuration;
+    private final Duration maxSyncDuration;
+    private final double failureRate;
+    private final Latency latency;
+    private final TokenBucket rateLimit;
+
+    private final Map<String, SimulatedConnector> connectors = new LinkedHashMap<>();
+    private final Map<String, List<SimulatedConnector>> groups = new LinkedHashMap<>();
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private final LongAdder rateLimited = new LongAdder();
+    private final Set<InetSocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Starts a simulator on a free local port. Every parameter is optional.
+     *
+     * @param connectors Number of connectors, named {@code connector_0000} onwards. Default: 100.
+     * @param groups Number of groups the connectors are spread over, named {@code group_00} onwards. Default: 10.
+     * @param syncFrequencyMinutes The {@code sync_frequency} of every connector. Default: 60.
+     * @param initialAge Each connector's last success is drawn between now and this long ago. Default: zero.
+     * @param minSyncDuration Shortest sync. Default: 1 second.
+     * @param maxSyncDuration Longest sync. Default: {@code minSyncDuration}.
+     * @param failureRate Share of syncs ending in failure, from 0 to 1. Default: 0.
+     * @param rateLimitPerSecond Calls per second the account may make before getting 429s. Default: unlimited.
+     * @param latency Delay before answering each call. Default: none.
+     * @param clock Clock the syncs progress on. Default: the system UTC clock.
+     * @param seed Seed of the sync durations, outcomes and initial ages. Default: 0.
+     */
+    @Builder(buildMethodName = "start")
+    private static FivetranSimulator create(
+        Integer connectors,
+        Integer groups,
+        Integer syncFrequencyMinutes,
+        Duration initialAge,
+        Duration minSyncDuration,
+        Duration maxSyncDuration,
+        Double failureRate,
+        Double rateLimitPerSecond,
+        Latency latency,
+        Clock clock,
+        Long seed
+    ) throws IOException {
+        Duration rMinSyncDuration = minSyncDuration != null ? minSyncDuration : Duration.ofSeconds(1);
+        return new FivetranSimulator(
+            connectors != null ? connectors : 100,
+            groups != null ? groups : 10,
+            syncFrequencyMinutes != null ? syncFrequencyMinutes : 60,
+            initialAge != null ? initialAge : Duration.ZERO,
+            rMinSyncDuration,
+            maxSyncDuration != null ? maxSyncDuration : rMinSyncDuration,
+            failureRate != null ? failureRate : 0,
+            rateLimitPerSecond != null ? new TokenBucket(rateLimitPerSecond) : null,
+            latency != null ? latency : Latency.none(),
+            clock != null ? clock : Clock.systemUTC(),
+            new Random(seed != null ? seed : 0)
+        );
+    }
+
+    private FivetranSimulator(
+        int connectorCount,
+        int groupCount,
+        int syncFrequencyMinutes,
+        Duration initialAge,
+        Duration minSyncDuration,
+        Duration maxSyncDuration,
+        double failureRate,
+        TokenBucket rateLimit,
+        Latency latency,
+        Clock clock,
+        Random random
+    ) throws IOException {
+        if (maxSyncDuration.compareTo(minSyncDuration) < 0) {
+            throw new IllegalArgumentException("maxSyncDuration must not be shorter than minSyncDuration");
+        }
+        this.clock = clock;
+        this.random = random;
+        this.minSyncDuration = minSyncDuration;
+        this.maxSyncDuration = maxSyncDuration;
+        this.failureRate = failureRate;
+        this.rateLimit = rateLimit;
+        this.latency = latency;
+
+        Instant now = clock.instant();
+        for (int i = 0; i < connectorCount; i++) {
+            String groupId = "group_%02d".formatted(i % groupCount);
+            SimulatedConnector connector = new SimulatedConnector(
+                "connector_%04d".formatted(i),
+                groupId,
+                syncFrequencyMinutes,
+                now.minusMillis((long) (random.nextDouble() * initialAge.toMillis()))
+            );
+            this.connectors.put(connector.id, connector);
+            this.groups.computeIfAbsent(groupId, key -> new ArrayList<>()).add(connector);
+        }
+
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.setExecutor(this.executor);
+        this.server.createContext("/v2/", this::handle);
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + this.server.getAddress().getPort();
+    }
+
+    public List<String> connectorIds() {
+        return List.copyOf(this.connectors.keySet());
+    }
+
+    public List<String> groupIds() {
+        return List.copyOf(this.groups.keySet());
+    }
+
+    // Calls answered on an endpoint, 429s included, e.g. calls(FivetranSimulator.GET_CONNECTOR).
+    public long calls(String endpoint) {
+        LongAdder count = this.calls.get(endpoint);
+        return count != null ? count.sum() : 0;
+    }
+
+    public long rateLimited() {
+        return this.rateLimited.sum();
+    }
+
+    // Distinct client connections calls came in on, told apart by their remote address and port.
+    public int connections() {
+        return this.clientAddresses.size();
+    }
+
+    // When the last sync of the connector completed on the simulator's clock, or null while it never did.
+    public Instant lastCompletion(String connectorId) {
+        SimulatedConnector connector = this.connectors.get(connectorId);
+        synchronized (connector) {
+            connector.advance(this.clock.instant());
+            return connector.lastCompletion;
+        }
+    }
+
+    // GETs of the connector answered since its last sync completed, the one reporting the completion included.
+    public long readsAfterCompletion(String connectorId) {
+        SimulatedConnector connector = this.connectors.get(connectorId);
+        synchronized (connector) {
+            return connector.readsAfterCompletion;
+        }
+    }
+
+    // Whether the last completion of the connector is a failure.
+    public boolean lastSyncFailed(String connectorId) {
+        SimulatedConnector connector = this.connectors.get(connectorId);
+        synchronized (connector) {
+            connector.advance(this.clock.instant());
+            return connector.failedAt != null && connector.failedAt.equals(connector.lastCompletion);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            this.clientAddresses.add(exchange.getRemoteAddress());
+            sleep(this.latency.next(this.random));
+
+            String method = exchange.getRequestMethod();
+            URI uri = exchange.getRequestURI();
+            String[] segments = uri.getPath().substring(1).split("/");
+
+            if (segments.length == 3 && segments[1].equals("connectors") && method.equals("GET")) {
+                if (this.admit(exchange, GET_CONNECTOR)) {
+                    this.getConnector(exchange, segments[2]);
+                }
+            } else if (segments.length == 4 && segments[1].equals("connectors") && segments[3].equals("sync") && method.equals("POST")) {
+                if (this.admit(exchange, POST_SYNC)) {
+                    this.postSync(exchange, segments[2]);
+                }
+            } else if (segments.length == 4 && segments[1].equals("groups") && segments[3].equals("connectors") && method.equals("GET")) {
+                if (this.admit(exchange, GET_GROUP_CONNECTORS)) {
+                    this.getGroupConnectors(exchange, segments[2], query(uri));
+                }
+            } else {
+                respond(exchange, 404, Map.of("code", "NotFound", "message", "Unknown endpoint " + method + " " + uri.getPath()));
+            }
+        }
+    }
+
+    private boolean admit(HttpExchange exchange, String endpoint) throws IOException {
+        this.calls.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        if (this.rateLimit == null) {
+            return true;
+        }
+
+        Duration retryAfter = this.rateLimit.take();
+        if (retryAfter.isZero()) {
+            return true;
+        }
+        this.rateLimited.increment();
+        exchange.getResponseHeaders().add("Retry-After", String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000)));
+        respond(exchange, 429, Map.of("code", "TooManyRequests", "message", "Rate limit exceeded"));
+        return false;
+    }
+
+    private void getConnector(HttpExchange exchange, String connectorId) throws IOException {
+        SimulatedConnector connector = this.connectors.get(connectorId);
+        if (connector == null) {
+            respond(exchange, 404, Map.of("code", "NotFound_Connector", "message", "Connector with id '" + connectorId + "' doesn't exist"));
+            return;
+        }
+        Map<String, Object> snapshot;
+        synchronized (connector) {
+            snapshot = this.snapshot(connector);
+            if (connector.syncEndsAt == null && connector.lastCompletion != null) {
+                connector.readsAfterCompletion++;
+            }
+        }
+        respond(exchange, 200, Map.of("code", "Success", "data", snapshot));
+    }
+
+    private void postSync(HttpExchange exchange, String connectorId) throws IOException {
+        SimulatedConnector connector = this.connectors.get(connectorId);
+        if (connector == null) {
+            respond(exchange, 404, Map.of("code", "NotFound_Connector", "message", "Connector with id '" + connectorId + "' doesn't exist"));
+            return;
+        }
+
+        boolean force = MAPPER.readTree(exchange.getRequestBody()).path("force").asBoolean(false);
+        Instant now = this.clock.instant();
+        synchronized (connector) {
+            connector.advance(now);
+            if (connector.syncEndsAt == null || force) {
+                connector.syncEndsAt = now.plus(this.syncDuration());
+                connector.readsAfterCompletion = 0;
+                connector.syncWillFail = this.random.nextDouble() < this.failureRate;
+            }
+        }
+        respond(exchange, 200, Map.of("code", "Success", "message", "Sync has been successfully triggered for connector with id '" + connectorId + "'"));
+    }
+
+    private void getGroupConnectors(HttpExchange exchange, String groupId, Map<String, String> query) throws IOException {
+        List<SimulatedConnector> members = this.groups.get(groupId);
+        if (members == null) {
+            respond(exchange, 404, Map.of("code", "NotFound_Group", "message", "Group with id '" + groupId + "' doesn't exist"));
+            return;
+        }
+
+        // The cursor is the index of the first connector of the page.
+        int limit = Integer.parseInt(query.getOrDefault("limit", "100"));
+        int from = Integer.parseInt(query.getOrDefault("cursor", "0"));
+        int to = Math.min(members.size(), from + limit);
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (SimulatedConnector connector : members.subList(from, to)) {
+            items.add(this.snapshot(connector));
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("items", items);
+        data.put("next_cursor", to < members.size() ? String.valueOf(to) : null);
+        respond(exchange, 200, Map.of("code", "Success", "data", data));
+    }
+
+    private Map<String, Object> snapshot(SimulatedConnector connector) {
+        synchronized (connector) {
+            connector.advance(this.clock.instant());
+
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("setup_state", "connected");
+            status.put("schema_status", "ready");
+            status.put("sync_state", connector.syncEndsAt != null ? "syncing" : "scheduled");
+            status.put("update_state", "on_schedule");
+
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("id", connector.id);
+            data.put("group_id", connector.groupId);
+            data.put("service", "postgres");
+            data.put("schema", connector.id);
+            data.put("paused", false);
+            data.put("sync_frequency", connector.syncFrequencyMinutes);
+            data.put("schedule_type", "auto");
+            data.put("succeeded_at", timestamp(connector.succeededAt));
+            data.put("failed_at", timestamp(connector.failedAt));
+            data.put("status", status);
+            return data;
+        }
+    }
+
+    private Duration syncDuration() {
+        long spreadMillis = this.maxSyncDuration.minus(this.minSyncDuration).toMillis();
+        return this.minSyncDuration.plusMillis(spreadMillis > 0 ? this.random.nextLong(spreadMillis + 1) : 0);
+    }
+
+    private static String timestamp(Instant instant) {
+        return instant != null ? instant.truncatedTo(ChronoUnit.MILLIS).toString() : null;
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (uri.getRawQuery() != null) {
+            for (String parameter : uri.getRawQuery().split("&")) {
+                String[] pair = parameter.split("=", 2);
+                query.put(pair[0], pair.length > 1 ? URLDecoder.decode(pair[1], StandardCharsets.UTF_8) : "");
+            }
+        }
+        return query;
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(Duration delay) {
+        if (delay.isZero() || delay.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Guarded by its own monitor.
+    private static final class SimulatedConnector {
+        final String id;
+        final String groupId;
+        final int syncFrequencyMinutes;
+        Instant succeededAt;
+        Instant failedAt;
+        Instant lastCompletion;
+        Instant syncEndsAt;
+        boolean syncWillFail;
+        long readsAfterCompletion;
+
+        SimulatedConnector(String id, String groupId, int syncFrequencyMinutes, Instant succeededAt) {
+            this.id = id;
+            this.groupId = groupId;
+            this.syncFrequencyMinutes = syncFrequencyMinutes;
+            this.succeededAt = succeededAt;
+        }
+
+        // Completes the running sync once the clock reached its end, stamped with that end rather than now.
+        void advance(Instant now) {
+            if (this.syncEndsAt == null || now.isBefore(this.syncEndsAt)) {
+                return;
+            }
+            if (this.syncWillFail) {
+                this.failedAt = this.syncEndsAt;
+            } else {
+                this.succeededAt = this.syncEndsAt;
+            }
+            this.lastCompletion = this.syncEndsAt;
+            this.syncEndsAt = null;
+        }
+    }
+
+    /**
+     * Account-wide token bucket holding up to one second of calls. Returns zero when a call is admitted,
+     * otherwise how long until the next token.
+     */
+    private static final class TokenBucket {
+        private final double perSecond;
+        private final double capacity;
+        private double tokens;
+        private long refilledAtNanos = System.nanoTime();
+
+        TokenBucket(double perSecond) {
+            if (!(perSecond > 0)) {
+                throw new IllegalArgumentException("rateLimitPerSecond must be positive, but was " + perSecond);
+            }
+            this.perSecond = perSecond;
+            this.capacity = Math.max(1, perSecond);
+            this.tokens = this.capacity;
+        }
+
+        synchronized Duration take() {
+            long now = System.nanoTime();
+            this.tokens = Math.min(this.capacity, this.tokens + (now - this.refilledAtNanos) / 1e9 * this.perSecond);
+            this.refilledAtNanos = now;
+            if (this.tokens >= 1) {
+                this.tokens--;
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos((long) ((1 - this.tokens) / this.perSecond * 1e9));
+        }
+    }
+
+    /**
+     * Response delay of the simulated API, drawn per call.
+     */
+    @FunctionalInterface
+    public interface Latency {
+        Duration next(Random random);
+
+        static Latency none() {
+            return random -> Duration.ZERO;
+        }
+
+        static Latency fixed(Duration delay) {
+            return random -> delay;
+        }
+
+        static Latency uniform(Duration min, Duration max) {
+            long spreadMicros = max.minus(min).toNanos() / 1000;
+            return random -> min.plusNanos(spreadMicros > 0 ? random.nextLong(spreadMicros + 1) * 1000 : 0);
+        }
+
+        // Long-tailed, like real API latencies: half the calls are faster than the median, a few much slower.
+        static Latency logNormal(Duration median, double sigma) {
+            double medianNanos = median.toNanos();
+            return random -> Duration.ofNanos((long) (medianNanos * Math.exp(sigma * random.nextGaussian())));
+        }
+    }
+}
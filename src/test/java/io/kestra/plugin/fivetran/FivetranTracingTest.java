@@ -0,0 +1,148 @@
+package io.kestra.plugin.fivetran;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.google.common.collect.ImmutableMap;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.fivetran.connectors.Status;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@KestraTest
+@WireMockTest
+class FivetranTracingTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+
+    @BeforeEach
+    void setUp() {
+        OpenTelemetryTracing.use(OpenTelemetrySdk.builder()
+            .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter)).build())
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        OpenTelemetryTracing.use(null);
+        exporter.reset();
+    }
+
+    @Test
+    @DisplayName("Should trace each poll cycle with a child span per request and an event per connector state change")
+    void tracesPollCyclesRequestsAndStateChanges(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        String connectorId = "traced_connector";
+        String scenario = "tracing-poll-until-fresh";
+
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .inScenario(scenario)
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willSetStateTo("FRESH")
+                .willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                    .withBody(connectorBody(connectorId, Instant.now().minus(Duration.ofHours(10)))))
+        );
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .inScenario(scenario)
+                .whenScenarioStateIs("FRESH")
+                .willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                    .withBody(connectorBody(connectorId, Instant.now().minus(Duration.ofMinutes(5)))))
+        );
+
+        Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of(connectorId)))
+            .pollFrequency(Property.ofValue(Duration.ofMillis(200)))
+            .maxDuration(Property.ofValue(Duration.ofSeconds(10)))
+            .build()
+            .run(runContextFactory.of(ImmutableMap.of()));
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        List<SpanData> polls = spans.stream()
+            .filter(span -> span.getName().equals("fivetran.poll"))
+            .sorted(Comparator.comparing(span -> span.getAttributes().get(OpenTelemetryTracing.POLL_CYCLE)))
+            .toList();
+        assertThat(polls, hasSize(2));
+
+        for (SpanData poll : polls) {
+            List<SpanData> requests = spans.stream()
+                .filter(span -> span.getName().equals("fivetran.request"))
+                .filter(span -> span.getParentSpanId().equals(poll.getSpanId()))
+                .toList();
+            assertThat(requests, hasSize(1));
+            SpanData request = requests.getFirst();
+            assertThat(request.getTraceId(), is(poll.getTraceId()));
+            assertThat(request.getAttributes().get(OpenTelemetryTracing.HTTP_REQUEST_METHOD), is("GET"));
+            assertThat(request.getAttributes().get(OpenTelemetryTracing.HTTP_RESPONSE_STATUS_CODE), is(200L));
+            assertThat(request.getAttributes().get(OpenTelemetryTracing.ENDPOINT), is("/v2/connectors/{id}"));
+            assertThat(request.getAttributes().get(OpenTelemetryTracing.CONNECTOR_ID), is(connectorId));
+
+            assertThat(poll.getEvents(), hasSize(1));
+            EventData changed = poll.getEvents().getFirst();
+            assertThat(changed.getName(), is("fivetran.connector.changed"));
+            assertThat(changed.getAttributes().get(OpenTelemetryTracing.CONNECTOR_ID), is(connectorId));
+        }
+        assertThat(polls.get(0).getEvents().getFirst().getAttributes().get(OpenTelemetryTracing.FRESH), is(false));
+        assertThat(polls.get(1).getEvents().getFirst().getAttributes().get(OpenTelemetryTracing.FRESH), is(true));
+    }
+
+    @Test
+    @DisplayName("Should take the connector id of a request span from the decoded path, and none from other endpoints")
+    void connectorIdIsDecodedFromTheConnectorPath() {
+        assertThat(FivetranTracing.connectorId("/v2/connectors/a%2Fb%20c"), is("a/b c"));
+        assertThat(FivetranTracing.connectorId("/v2/connectors/a+b/sync"), is("a+b"));
+        assertThat(FivetranTracing.connectorId("/v2/groups/g1/connectors"), nullValue());
+    }
+
+    private static String connectorBody(String connectorId, Instant succeededAt) {
+        return """
+            {
+              "code": "Success",
+              "data": {
+                "id": "%s",
+                "paused": false,
+                "status": {
+                  "setup_state": "connected",
+                  "sync_state": "scheduled"
+                },
+                "succeeded_at": "%s",
+                "sync_frequency": 360,
+                "group_id": "some_group"
+              }
+            }
+            """.formatted(connectorId, succeededAt);
+    }
+}
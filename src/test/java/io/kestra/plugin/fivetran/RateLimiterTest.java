@@ -0,0 +1,43 @@
+package io.kestra.plugin.fivetran;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class RateLimiterTest {
+    private static final long INTERVAL_NANOS = 100_000_000L;
+
+    @Test
+    @DisplayName("Should let a full burst through without waiting, then space calls at the configured rate")
+    void burstThenSustainedRate() {
+        RateLimiter limiter = RateLimiter.of(UUID.randomUUID().toString());
+
+        assertThat(limiter.reserveNanos(10, 2), is(0L));
+        assertThat(limiter.reserveNanos(10, 2), is(0L));
+
+        long third = limiter.reserveNanos(10, 2);
+        assertThat(third, greaterThan(INTERVAL_NANOS / 2));
+        assertThat(third, lessThanOrEqualTo(INTERVAL_NANOS));
+
+        long fourth = limiter.reserveNanos(10, 2);
+        assertThat(fourth, greaterThan(third));
+        assertThat(fourth, lessThanOrEqualTo(2 * INTERVAL_NANOS));
+    }
+
+    @Test
+    @DisplayName("Should share one bucket per account key")
+    void oneBucketPerKey() {
+        String key = UUID.randomUUID().toString();
+
+        assertThat(RateLimiter.of(key), sameInstance(RateLimiter.of(key)));
+        assertThat(RateLimiter.of(key), not(sameInstance(RateLimiter.of(UUID.randomUUID().toString()))));
+    }
+}
@@ -0,0 +1,170 @@
+package io.kestra.plugin.fivetran;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.google.common.collect.ImmutableMap;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClientResponseException;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.fivetran.connectors.Sync;
+import io.kestra.plugin.fivetran.models.ConnectorResponse;
+
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+@WireMockTest
+class ResponseStreamingTest {
+    private static final String CONNECTOR_PATH = "/v2/connectors/streamed_connector";
+    private static final String CONNECTOR_BODY = """
+        {
+          "code": "Success",
+          "data": {
+            "id": "streamed_connector",
+            "paused": false,
+            "status": {
+              "setup_state": "connected",
+              "sync_state": "scheduled"
+            },
+            "succeeded_at": "2026-07-27T10:00:00.000Z",
+            "failed_at": null,
+            "sync_frequency": 360
+          }
+        }
+        """;
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @DisplayName("Should parse a body streamed over several chunks, and count its bytes in the response.bytes metric")
+    void parsesAChunkedBodyAndCountsItsBytes(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        stubFor(
+            get(urlEqualTo(CONNECTOR_PATH))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(CONNECTOR_BODY)
+                        .withChunkedDribbleDelay(5, 100)
+                )
+        );
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+        Sync task = task(wmRuntimeInfo.getHttpBaseUrl());
+
+        HttpResponse<ConnectorResponse> response;
+        try (FivetranSession session = task.openSession(runContext)) {
+            response = task.request(session, connectorRequest(wmRuntimeInfo), ConnectorResponse.class);
+        }
+
+        assertThat(response.getBody().getData().getId(), is("streamed_connector"));
+        assertThat(response.getBody().getData().getSyncFrequency(), is(360));
+        long bytes = runContext.metrics().stream()
+            .filter(metric -> metric.getName().equals("response.bytes"))
+            .filter(metric -> "/v2/connectors/{id}".equals(metric.getTags().get("endpoint")))
+            .mapToLong(metric -> ((Number) metric.getValue()).longValue())
+            .sum();
+        assertThat(bytes, is((long) CONNECTOR_BODY.getBytes(StandardCharsets.UTF_8).length));
+    }
+
+    @Test
+    @DisplayName("Should map an empty body and a 204 to a null body")
+    void mapsAnEmptyBodyToNull(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        Sync task = task(wmRuntimeInfo.getHttpBaseUrl());
+
+        stubFor(get(urlEqualTo(CONNECTOR_PATH)).willReturn(aResponse().withStatus(200).withBody("")));
+        try (FivetranSession session = task.openSession(runContextFactory.of(ImmutableMap.of()))) {
+            HttpResponse<ConnectorResponse> response = task.request(session, connectorRequest(wmRuntimeInfo), ConnectorResponse.class);
+            assertThat(response.getStatus().getCode(), is(200));
+            assertThat(response.getBody(), nullValue());
+        }
+
+        stubFor(get(urlEqualTo(CONNECTOR_PATH)).willReturn(aResponse().withStatus(204)));
+        try (FivetranSession session = task.openSession(runContextFactory.of(ImmutableMap.of()))) {
+            HttpResponse<ConnectorResponse> response = task.request(session, connectorRequest(wmRuntimeInfo), ConnectorResponse.class);
+            assertThat(response.getStatus().getCode(), is(204));
+            assertThat(response.getBody(), nullValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Should name the error body in the message of a non-2xx response")
+    void keepsTheErrorBodyInTheMessage(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        stubFor(
+            get(urlEqualTo(CONNECTOR_PATH))
+                .willReturn(
+                    aResponse().withStatus(409).withHeader("Content-Type", "application/json")
+                        .withBody("{\"code\": \"Conflict\", \"message\": \"Connector is paused\"}")
+                )
+        );
+        Sync task = task(wmRuntimeInfo.getHttpBaseUrl());
+
+        try (FivetranSession session = task.openSession(runContextFactory.of(ImmutableMap.of()))) {
+            HttpClientResponseException thrown = assertThrows(
+                HttpClientResponseException.class,
+                () -> task.request(session, connectorRequest(wmRuntimeInfo), ConnectorResponse.class)
+            );
+
+            assertThat(thrown.getResponse().getStatus().getCode(), is(409));
+            assertThat(thrown.getMessage(), containsString("Connector is paused"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep a non-JSON error body as text instead of failing to parse it")
+    void keepsANonJsonErrorBodyAsText(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        stubFor(
+            get(urlEqualTo(CONNECTOR_PATH))
+                .willReturn(
+                    aResponse().withStatus(502).withHeader("Content-Type", "text/html")
+                        .withBody("<html><body>Bad Gateway</body></html>")
+                )
+        );
+        Sync task = task(wmRuntimeInfo.getHttpBaseUrl());
+
+        try (FivetranSession session = task.openSession(runContextFactory.of(ImmutableMap.of()))) {
+            // A parse error would hide the 502, and with it that the call is worth retrying.
+            HttpClientResponseException thrown = assertThrows(
+                HttpClientResponseException.class,
+                () -> task.request(session, connectorRequest(wmRuntimeInfo), ConnectorResponse.class)
+            );
+
+            assertThat(thrown.getResponse().getStatus().getCode(), is(502));
+            assertThat(thrown.getMessage(), containsString("Bad Gateway"));
+        }
+    }
+
+    private static Sync task(String baseUrl) {
+        return Sync.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(baseUrl))
+            .connectorId(Property.ofValue("streamed_connector"))
+            .maxAttempts(Property.ofValue(1))
+            .build();
+    }
+
+    private static HttpRequest.HttpRequestBuilder connectorRequest(WireMockRuntimeInfo wmRuntimeInfo) {
+        return HttpRequest.builder()
+            .uri(URI.create(wmRuntimeInfo.getHttpBaseUrl() + CONNECTOR_PATH))
+            .method("GET");
+    }
+}
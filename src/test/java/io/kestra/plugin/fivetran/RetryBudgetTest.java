@@ -0,0 +1,98 @@
+package io.kestra.plugin.fivetran;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.google.common.collect.ImmutableMap;
+
+import io.kestra.core.http.client.HttpClientResponseException;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.fivetran.connectors.Status;
+
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+@WireMockTest
+class RetryBudgetTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @DisplayName("Should always allow the minimum retries per window, then no more than the ratio of calls")
+    void allowsTheMinimumThenTheRatioOfCalls() {
+        RetryBudget budget = new RetryBudget(0.5);
+
+        for (int i = 0; i < RetryBudget.MIN_RETRIES; i++) {
+            assertThat(budget.tryRetry(), is(true));
+        }
+        assertThat(budget.tryRetry(), is(false));
+
+        // 30 calls allow 15 retries in the window, 10 of which are already taken.
+        for (int i = 0; i < 30; i++) {
+            budget.recordRequest();
+        }
+        for (int i = 0; i < 5; i++) {
+            assertThat(budget.tryRetry(), is(true));
+        }
+        assertThat(budget.tryRetry(), is(false));
+    }
+
+    @Test
+    @DisplayName("Should fail a call with its last error once the run's retry budget is exhausted, before maxAttempts")
+    void stopsRetryingOnceTheBudgetIsExhausted(WireMockRuntimeInfo wmRuntimeInfo) {
+        String connectorId = "failing_connector";
+        stubFor(get(urlEqualTo("/v2/connectors/" + connectorId)).willReturn(aResponse().withStatus(503)));
+
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of(connectorId)))
+            .wait(Property.ofValue(false))
+            .maxAttempts(Property.ofValue(20))
+            .initialRetryDelay(Property.ofValue(Duration.ofMillis(1)))
+            .retryBudgetRatio(Property.ofValue(0.0))
+            .build();
+
+        HttpClientResponseException thrown = assertThrows(HttpClientResponseException.class, () -> task.run(runContextFactory.of(ImmutableMap.of())));
+
+        assertThat(thrown.getResponse().getStatus().getCode(), is(503));
+        verify(exactly(1 + RetryBudget.MIN_RETRIES), getRequestedFor(urlEqualTo("/v2/connectors/" + connectorId)));
+    }
+
+    @Test
+    @DisplayName("Should reject a negative retryBudgetRatio")
+    void rejectsANegativeRatio(WireMockRuntimeInfo wmRuntimeInfo) {
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of("any_connector")))
+            .wait(Property.ofValue(false))
+            .retryBudgetRatio(Property.ofValue(-0.1))
+            .build();
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> task.run(runContextFactory.of(ImmutableMap.of())));
+
+        assertThat(thrown.getMessage(), containsString("retryBudgetRatio"));
+    }
+}
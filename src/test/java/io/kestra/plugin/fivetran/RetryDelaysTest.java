@@ -0,0 +1,130 @@
+package io.kestra.plugin.fivetran;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class RetryDelaysTest {
+    private static final Instant NOW = Instant.parse("2026-07-27T13:00:00Z");
+
+    @Test
+    @DisplayName("Should read Retry-After given in delta-seconds")
+    void retryAfterSeconds() {
+        assertThat(RetryDelays.serverDelay(headers("Retry-After", "7"), NOW), is(Optional.of(Duration.ofSeconds(7))));
+    }
+
+    @Test
+    @DisplayName("Should read Retry-After given as an HTTP-date")
+    void retryAfterHttpDate() {
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(NOW.plusSeconds(12).atOffset(ZoneOffset.UTC));
+
+        assertThat(RetryDelays.serverDelay(headers("Retry-After", date), NOW), is(Optional.of(Duration.ofSeconds(12))));
+    }
+
+    @Test
+    @DisplayName("Should treat an HTTP-date in the past as retry now")
+    void retryAfterPastDateIsZero() {
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(NOW.minusSeconds(30).atOffset(ZoneOffset.UTC));
+
+        assertThat(RetryDelays.serverDelay(headers("Retry-After", date), NOW), is(Optional.of(Duration.ZERO)));
+    }
+
+    @Test
+    @DisplayName("Should wait for the rate-limit reset once the remaining quota is exhausted")
+    void exhaustedRateLimitWaitsForReset() {
+        HttpHeaders headers = HttpHeaders.of(
+            Map.of(
+                "X-RateLimit-Remaining", List.of("0"),
+                "X-RateLimit-Reset", List.of(String.valueOf(NOW.plusSeconds(20).getEpochSecond()))
+            ),
+            (name, value) -> true
+        );
+
+        assertThat(RetryDelays.serverDelay(headers, NOW), is(Optional.of(Duration.ofSeconds(20))));
+    }
+
+    @Test
+    @DisplayName("Should read a rate-limit reset given as a delta in seconds")
+    void rateLimitResetDelta() {
+        assertThat(RetryDelays.serverDelay(headers("RateLimit-Reset", "3"), NOW), is(Optional.of(Duration.ofSeconds(3))));
+    }
+
+    @Test
+    @DisplayName("Should ignore the rate-limit reset while quota remains")
+    void remainingQuotaIgnoresReset() {
+        HttpHeaders headers = HttpHeaders.of(
+            Map.of(
+                "X-RateLimit-Remaining", List.of("5"),
+                "X-RateLimit-Reset", List.of("30")
+            ),
+            (name, value) -> true
+        );
+
+        assertThat(RetryDelays.serverDelay(headers, NOW), is(Optional.empty()));
+    }
+
+    @Test
+    @DisplayName("Should cap a server delay so a single retry cannot park the worker for hours")
+    void serverDelayIsCapped() {
+        assertThat(RetryDelays.serverDelay(headers("Retry-After", "86400"), NOW), is(Optional.of(RetryDelays.MAX_SERVER_DELAY)));
+    }
+
+    @Test
+    @DisplayName("Should name no delay when the response carries no usable header")
+    void noHeaderNoDelay() {
+        assertThat(RetryDelays.serverDelay(headers("Retry-After", "soon"), NOW), is(Optional.empty()));
+        assertThat(RetryDelays.serverDelay(HttpHeaders.of(Map.of(), (name, value) -> true), NOW), is(Optional.empty()));
+    }
+
+    @Test
+    @DisplayName("Should double the backoff on each failed attempt, capped at 30 seconds")
+    void exponentialBackoff() {
+        assertThat(RetryDelays.backoff(Duration.ofSeconds(1), 1), is(Duration.ofSeconds(1)));
+        assertThat(RetryDelays.backoff(Duration.ofSeconds(1), 2), is(Duration.ofSeconds(2)));
+        assertThat(RetryDelays.backoff(Duration.ofSeconds(1), 3), is(Duration.ofSeconds(4)));
+        assertThat(RetryDelays.backoff(Duration.ofSeconds(1), 10), is(RetryDelays.MAX_BACKOFF));
+        assertThat(RetryDelays.backoff(Duration.ofSeconds(1), 100), is(RetryDelays.MAX_BACKOFF));
+    }
+
+    @Test
+    @DisplayName("Should keep each jittered backoff within the bounds of its strategy")
+    void jitteredBackoffStaysWithinBounds() {
+        Duration initial = Duration.ofSeconds(1);
+        assertThat(RetryDelays.jitteredBackoff(RetryJitter.NONE, initial, 3, null), is(Duration.ofSeconds(4)));
+
+        Duration previous = null;
+        for (int attempt = 1; attempt <= 20; attempt++) {
+            Duration backoff = RetryDelays.backoff(initial, attempt);
+
+            Duration full = RetryDelays.jitteredBackoff(RetryJitter.FULL, initial, attempt, null);
+            assertThat(full, both(greaterThanOrEqualTo(Duration.ZERO)).and(lessThanOrEqualTo(backoff)));
+
+            Duration equal = RetryDelays.jitteredBackoff(RetryJitter.EQUAL, initial, attempt, null);
+            assertThat(equal, both(greaterThanOrEqualTo(backoff.dividedBy(2))).and(lessThanOrEqualTo(backoff)));
+
+            Duration decorrelated = RetryDelays.jitteredBackoff(RetryJitter.DECORRELATED, initial, attempt, previous);
+            Duration upper = previous == null ? initial.multipliedBy(3) : previous.multipliedBy(3);
+            assertThat(decorrelated, both(greaterThanOrEqualTo(initial)).and(lessThanOrEqualTo(upper)));
+            assertThat(decorrelated, lessThanOrEqualTo(RetryDelays.MAX_BACKOFF));
+            previous = decorrelated;
+        }
+    }
+
+    private static HttpHeaders headers(String name, String value) {
+        return HttpHeaders.of(Map.of(name, List.of(value)), (n, v) -> true);
+    }
+}
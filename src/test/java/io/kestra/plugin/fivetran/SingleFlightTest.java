@@ -0,0 +1,136 @@
+package io.kestra.plugin.fivetran;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+class SingleFlightTest {
+    private static final String KEY = "account/connector";
+
+    @Test
+    @DisplayName("Should share the leader's result with a concurrent follower, in a single call")
+    void followerSharesTheLeadersResult() throws Exception {
+        SingleFlight<String> flight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Object> leaderResult = new AtomicReference<>();
+        AtomicReference<Object> followerResult = new AtomicReference<>();
+
+        Thread leader = start(() -> flight.run(KEY, () -> {
+            calls.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return "leader";
+        }), leaderResult);
+        leaderStarted.await(10, TimeUnit.SECONDS);
+        Thread follower = start(() -> flight.run(KEY, () -> {
+            calls.incrementAndGet();
+            return "follower";
+        }), followerResult);
+        awaitWaiting(follower);
+
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        assertThat(leaderResult.get(), is("leader"));
+        assertThat(followerResult.get(), is("leader"));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    @DisplayName("Should make a follower read again when the leader is interrupted by its own cancellation")
+    void followerReadsAgainWhenTheLeaderIsCancelled() throws Exception {
+        SingleFlight<String> flight = new SingleFlight<>();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        AtomicReference<Object> leaderResult = new AtomicReference<>();
+        AtomicReference<Object> followerResult = new AtomicReference<>();
+
+        Thread leader = start(() -> flight.run(KEY, () -> {
+            leaderStarted.countDown();
+            await(new CountDownLatch(1));
+            return "leader";
+        }), leaderResult);
+        leaderStarted.await(10, TimeUnit.SECONDS);
+        Thread follower = start(() -> flight.run(KEY, () -> "follower"), followerResult);
+        awaitWaiting(follower);
+
+        leader.interrupt();
+        leader.join();
+        follower.join();
+
+        assertThat(leaderResult.get(), instanceOf(IllegalStateException.class));
+        assertThat(followerResult.get(), is("follower"));
+    }
+
+    @Test
+    @DisplayName("Should share the leader's failure with a follower when the read itself failed, a read timeout included")
+    void followerSharesAReadFailure() throws Exception {
+        SingleFlight<String> flight = new SingleFlight<>();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger followerCalls = new AtomicInteger();
+        AtomicReference<Object> leaderResult = new AtomicReference<>();
+        AtomicReference<Object> followerResult = new AtomicReference<>();
+
+        Thread leader = start(() -> flight.run(KEY, () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw new IllegalStateException("Read failed", new SocketTimeoutException("Read timed out"));
+        }), leaderResult);
+        leaderStarted.await(10, TimeUnit.SECONDS);
+        Thread follower = start(() -> flight.run(KEY, () -> {
+            followerCalls.incrementAndGet();
+            return "follower";
+        }), followerResult);
+        awaitWaiting(follower);
+
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        assertThat(followerResult.get(), instanceOf(IllegalStateException.class));
+        assertThat(followerCalls.get(), is(0));
+    }
+
+    // Runs call on a new thread, setting result to what it returns or throws.
+    private static Thread start(Callable<Object> call, AtomicReference<Object> result) {
+        Thread thread = new Thread(() -> {
+            try {
+                result.set(call.call());
+            } catch (Exception e) {
+                result.set(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+    }
+
+    // A follower parks on the leader's call once it joined it.
+    private static void awaitWaiting(Thread follower) throws InterruptedException {
+        for (int i = 0; i < 1000 && follower.getState() != Thread.State.WAITING; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(follower.getState(), is(Thread.State.WAITING));
+    }
+}
@@ -0,0 +1,44 @@
+package io.kestra.plugin.fivetran;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UtcDateTimeDeserializerTest {
+    @Test
+    @DisplayName("Should parse Fivetran UTC timestamps with any fraction length like the ISO formatter")
+    void parsesUtcTimestampsLikeTheFormatter() {
+        for (String text : new String[] {
+            "2026-07-27T13:13:08Z",
+            "2026-07-27T13:13:08.3Z",
+            "2026-07-27T13:13:08.389Z",
+            "2026-07-27T13:13:08.000Z",
+            "2026-07-27T13:13:08.389123Z",
+            "2026-07-27T13:13:08.389123456Z"
+        }) {
+            assertThat(text, UtcDateTimeDeserializer.parse(text), is(ZonedDateTime.parse(text)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the formatter for other offsets, converting them to UTC")
+    void fallsBackForOtherShapes() {
+        assertThat(
+            UtcDateTimeDeserializer.parse("2026-07-27T15:13:08.389+02:00"),
+            is(ZonedDateTime.of(2026, 7, 27, 13, 13, 8, 389_000_000, ZoneOffset.UTC))
+        );
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid date instead of rolling it over")
+    void rejectsInvalidDates() {
+        assertThrows(Exception.class, () -> UtcDateTimeDeserializer.parse("2026-02-30T00:00:00Z"));
+        assertThrows(Exception.class, () -> UtcDateTimeDeserializer.parse("2026-07-27T13:13:0xZ"));
+    }
+}
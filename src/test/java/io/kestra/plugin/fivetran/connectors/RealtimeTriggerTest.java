@@ -0,0 +1,239 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.Trigger;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.fivetran.FivetranSimulator;
+import io.kestra.plugin.fivetran.models.WebhookEvent;
+
+import jakarta.inject.Inject;
+import reactor.core.publisher.Flux;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+@WireMockTest
+class RealtimeTriggerTest {
+    private static final String SECRET = "webhook-secret";
+    private static final String SYNC_END_EVENT = """
+        {
+          "event": "sync_end",
+          "created": "2026-07-27T13:13:08.389Z",
+          "connector_type": "postgres",
+          "connector_id": "arriving_atone",
+          "connector_name": "warehouse",
+          "sync_id": "a1b2c3",
+          "destination_group_id": "some_group",
+          "data": {"status": "SUCCESSFUL"}
+        }
+        """;
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @DisplayName("Should accept the HMAC-SHA256 signature of the body, in either hex case and with an optional sha256= prefix")
+    void acceptsTheSignatureOfTheBody() {
+        byte[] body = SYNC_END_EVENT.getBytes(StandardCharsets.UTF_8);
+        String signature = HexFormat.of().formatHex(RealtimeTrigger.sign(body, SECRET));
+
+        assertThat(RealtimeTrigger.isValidSignature(body, signature, SECRET), is(true));
+        assertThat(RealtimeTrigger.isValidSignature(body, signature.toUpperCase(), SECRET), is(true));
+        assertThat(RealtimeTrigger.isValidSignature(body, "sha256=" + signature, SECRET), is(true));
+    }
+
+    @Test
+    @DisplayName("Should reject a missing, malformed or mismatching signature")
+    void rejectsInvalidSignatures() {
+        byte[] body = SYNC_END_EVENT.getBytes(StandardCharsets.UTF_8);
+        String signature = HexFormat.of().formatHex(RealtimeTrigger.sign(body, SECRET));
+
+        assertThat(RealtimeTrigger.isValidSignature(body, null, SECRET), is(false));
+        assertThat(RealtimeTrigger.isValidSignature(body, "not-hex", SECRET), is(false));
+        assertThat(RealtimeTrigger.isValidSignature(body, signature, "another-secret"), is(false));
+        assertThat(RealtimeTrigger.isValidSignature("{}".getBytes(StandardCharsets.UTF_8), signature, SECRET), is(false));
+    }
+
+    @Test
+    @DisplayName("Should parse a Fivetran webhook event")
+    void parsesAnEvent() throws Exception {
+        WebhookEvent event = RealtimeTrigger.parseEvent(SYNC_END_EVENT.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(event.getEvent(), is("sync_end"));
+        assertThat(event.getConnectorId(), is("arriving_atone"));
+        assertThat(event.getDestinationGroupId(), is("some_group"));
+        assertThat(event.getData().get("status"), is("SUCCESSFUL"));
+        assertThrows(IOException.class, () -> RealtimeTrigger.parseEvent("{}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("Should start an execution for a signed sync_end webhook and reject an unsigned one")
+    void startsAnExecutionForASignedWebhook() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        RealtimeTrigger trigger = RealtimeTrigger.builder()
+            .id("sync_end")
+            .type(RealtimeTrigger.class.getName())
+            .secret(Property.ofValue(SECRET))
+            .port(Property.ofValue(port))
+            .build();
+        Map.Entry<ConditionContext, Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        CompletableFuture<Execution> firstExecution = Flux.from(trigger.evaluate(context.getKey(), context.getValue())).next().toFuture();
+        try {
+            byte[] body = SYNC_END_EVENT.getBytes(StandardCharsets.UTF_8);
+            URI uri = URI.create("http://localhost:" + port + "/fivetran/webhook");
+
+            assertThat(post(uri, body, "0".repeat(64)), is(401));
+            assertThat(post(uri, body, HexFormat.of().formatHex(RealtimeTrigger.sign(body, SECRET))), is(200));
+
+            Execution execution = firstExecution.get(10, TimeUnit.SECONDS);
+            assertThat(execution.getTrigger().getVariables().get("connectorId"), is("arriving_atone"));
+            assertThat(execution.getTrigger().getVariables().get("event"), is("sync_end"));
+        } finally {
+            trigger.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should still start an execution, without the connector status, when the reconciling read fails, and keep listening")
+    void startsExecutionsWhenReconcileFails(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        stubFor(get(urlEqualTo("/v2/connectors/arriving_atone")).willReturn(aResponse().withStatus(404)));
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        RealtimeTrigger trigger = RealtimeTrigger.builder()
+            .id("sync_end")
+            .type(RealtimeTrigger.class.getName())
+            .secret(Property.ofValue(SECRET))
+            .port(Property.ofValue(port))
+            .bindAddress(Property.ofValue("127.0.0.1"))
+            .reconcile(Property.ofValue(true))
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .build();
+        Map.Entry<ConditionContext, Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        CompletableFuture<List<Execution>> executions = Flux.from(trigger.evaluate(context.getKey(), context.getValue())).take(2).collectList().toFuture();
+        try {
+            byte[] body = SYNC_END_EVENT.getBytes(StandardCharsets.UTF_8);
+            String signature = HexFormat.of().formatHex(RealtimeTrigger.sign(body, SECRET));
+            URI uri = URI.create("http://127.0.0.1:" + port + "/fivetran/webhook");
+
+            assertThat(post(uri, body, signature), is(200));
+            assertThat(post(uri, body, signature), is(200));
+
+            List<Execution> started = executions.get(10, TimeUnit.SECONDS);
+            assertThat(started, hasSize(2));
+            assertThat(started.getFirst().getTrigger().getVariables().get("connectorId"), is("arriving_atone"));
+            assertThat(started.getFirst().getTrigger().getVariables().get("connector"), nullValue());
+        } finally {
+            trigger.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should make the reconciling reads of every event over the one client the trigger keeps")
+    void reconcilesEveryEventOverOneClient() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        try (FivetranSimulator simulator = FivetranSimulator.builder().connectors(1).groups(1).start()) {
+            String connectorId = simulator.connectorIds().getFirst();
+            RealtimeTrigger trigger = RealtimeTrigger.builder()
+                .id("sync_end")
+                .type(RealtimeTrigger.class.getName())
+                .secret(Property.ofValue(SECRET))
+                .port(Property.ofValue(port))
+                .bindAddress(Property.ofValue("127.0.0.1"))
+                .reconcile(Property.ofValue(true))
+                .apiKey(Property.ofValue("dummy-api-key"))
+                .apiSecret(Property.ofValue("dummy-api-secret"))
+                .baseUrl(Property.ofValue(simulator.baseUrl()))
+                .build();
+            Map.Entry<ConditionContext, Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+            CompletableFuture<List<Execution>> executions = Flux.from(trigger.evaluate(context.getKey(), context.getValue())).take(3).collectList().toFuture();
+            try {
+                byte[] body = SYNC_END_EVENT.replace("arriving_atone", connectorId).getBytes(StandardCharsets.UTF_8);
+                String signature = HexFormat.of().formatHex(RealtimeTrigger.sign(body, SECRET));
+                URI uri = URI.create("http://127.0.0.1:" + port + "/fivetran/webhook");
+
+                for (int i = 0; i < 3; i++) {
+                    assertThat(post(uri, body, signature), is(200));
+                }
+
+                List<Execution> started = executions.get(10, TimeUnit.SECONDS);
+                assertThat(started, hasSize(3));
+                started.forEach(execution -> assertThat(execution.getTrigger().getVariables().get("connector"), notNullValue()));
+                assertThat(simulator.calls(FivetranSimulator.GET_CONNECTOR), is(3L));
+                // A client per event would open a connection per event.
+                assertThat(simulator.connections(), is(1));
+            } finally {
+                trigger.stop();
+            }
+        }
+    }
+
+    // The server starts once the execution stream is subscribed to, so retry until it accepts connections.
+    private static int post(URI uri, byte[] body, String signature) throws Exception {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                .header(RealtimeTrigger.SIGNATURE_HEADER, signature)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                } catch (ConnectException e) {
+                    if (attempt >= 50) {
+                        throw e;
+                    }
+                    Thread.sleep(Duration.ofMillis(100));
+                }
+            }
+        }
+    }
+}
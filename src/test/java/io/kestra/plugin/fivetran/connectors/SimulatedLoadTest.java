@@ -0,0 +1,156 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.fivetran.FivetranSimulator;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Load tests against {@link FivetranSimulator}: call counts and rate-limit hits of the tasks at fleet scale,
+ * offline. Tagged {@code load}, so they only run with {@code ./gradlew loadTest}.
+ */
+@KestraTest
+@Tag("load")
+class SimulatedLoadTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @DisplayName("Should read 1,000 connectors with one GET each, or with one listing page per group in bulk")
+    void readsAThousandConnectors() throws Exception {
+        try (FivetranSimulator simulator = FivetranSimulator.builder()
+            .connectors(1_000)
+            .groups(10)
+            .latency(FivetranSimulator.Latency.logNormal(Duration.ofMillis(5), 0.5))
+            .start()) {
+            Status.Output output = statusTask(simulator)
+                .concurrency(Property.ofValue(50))
+                .build()
+                .run(runContext());
+
+            assertThat(output.getConnectors(), aMapWithSize(1_000));
+            assertThat(output.getConnectors().values().stream().allMatch(state -> Boolean.TRUE.equals(state.getFresh())), is(true));
+            assertThat(simulator.calls(FivetranSimulator.GET_CONNECTOR), is(1_000L));
+        }
+
+        try (FivetranSimulator simulator = FivetranSimulator.builder()
+            .connectors(1_000)
+            .groups(10)
+            .start()) {
+            Status.Output output = statusTask(simulator)
+                .bulkRead(Property.ofValue(true))
+                .groupIds(Property.ofValue(simulator.groupIds()))
+                .build()
+                .run(runContext());
+
+            assertThat(output.getConnectors(), aMapWithSize(1_000));
+            assertThat(simulator.calls(FivetranSimulator.GET_GROUP_CONNECTORS), is(10L));
+            assertThat(simulator.calls(FivetranSimulator.GET_CONNECTOR), is(0L));
+        }
+    }
+
+    @Test
+    @DisplayName("Should detect every completion of 200 concurrent syncs, reading each connector once it completed and a bounded number of times in all")
+    void detectsConcurrentCompletionsPromptly() throws Exception {
+        Duration pollFrequency = Duration.ofMillis(250);
+        Duration maxSyncDuration = Duration.ofSeconds(3);
+
+        try (FivetranSimulator simulator = FivetranSimulator.builder()
+            .connectors(200)
+            .minSyncDuration(Duration.ofSeconds(1))
+            .maxSyncDuration(maxSyncDuration)
+            .failureRate(0.1)
+            .seed(42L)
+            .start()) {
+            List<String> connectorIds = simulator.connectorIds();
+
+            SyncAll.Output output = SyncAll.builder()
+                .apiKey(Property.ofValue("dummy-api-key"))
+                .apiSecret(Property.ofValue("dummy-api-secret"))
+                .baseUrl(Property.ofValue(simulator.baseUrl()))
+                .connectorIds(Property.ofValue(connectorIds))
+                .concurrency(Property.ofValue(50))
+                .pollFrequency(Property.ofValue(pollFrequency))
+                .failOnSyncFailure(Property.ofValue(false))
+                .build()
+                .run(runContext());
+
+            for (String connectorId : connectorIds) {
+                SyncAll.SyncStatus expected = simulator.lastSyncFailed(connectorId) ? SyncAll.SyncStatus.FAILED : SyncAll.SyncStatus.SUCCEEDED;
+                assertThat(connectorId, output.getConnectors().get(connectorId).getStatus(), is(expected));
+                // The first read after the sync ended detects it, and the connector is not read again.
+                assertThat(connectorId, simulator.readsAfterCompletion(connectorId), is(1L));
+            }
+
+            // One read before triggering, then at most one per poll while the sync runs, plus the one seeing it end.
+            long readsPerCompletion = simulator.calls(FivetranSimulator.GET_CONNECTOR) / connectorIds.size();
+            assertThat(readsPerCompletion, lessThanOrEqualTo(maxSyncDuration.dividedBy(pollFrequency) + 2));
+            assertThat(simulator.calls(FivetranSimulator.POST_SYNC), is((long) connectorIds.size()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should get through an account rate limit with retries, and stay under it with the client-side limiter")
+    void handlesTheAccountRateLimit() throws Exception {
+        try (FivetranSimulator simulator = FivetranSimulator.builder()
+            .connectors(200)
+            .rateLimitPerSecond(100.0)
+            .start()) {
+            Status.Output output = statusTask(simulator)
+                .concurrency(Property.ofValue(20))
+                .maxAttempts(Property.ofValue(10))
+                .initialRetryDelay(Property.ofValue(Duration.ofMillis(100)))
+                .build()
+                .run(runContext());
+
+            assertThat(output.getConnectors(), aMapWithSize(200));
+            assertThat(simulator.rateLimited(), greaterThan(0L));
+        }
+
+        try (FivetranSimulator simulator = FivetranSimulator.builder()
+            .connectors(200)
+            .rateLimitPerSecond(100.0)
+            .start()) {
+            Status.Output output = statusTask(simulator)
+                .concurrency(Property.ofValue(20))
+                .rateLimitPerSecond(Property.ofValue(50.0))
+                .rateLimitBurst(Property.ofValue(10))
+                .build()
+                .run(runContext());
+
+            assertThat(output.getConnectors(), aMapWithSize(200));
+            assertThat(simulator.rateLimited(), is(0L));
+        }
+    }
+
+    private static Status.StatusBuilder<?, ?> statusTask(FivetranSimulator simulator) {
+        return Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(simulator.baseUrl()))
+            .connectorIds(Property.ofValue(simulator.connectorIds()))
+            .wait(Property.ofValue(false));
+    }
+
+    private RunContext runContext() {
+        return runContextFactory.of(ImmutableMap.of());
+    }
+}
@@ -1,11 +1,15 @@
 package io.kestra.plugin.fivetran.connectors;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,16 +24,21 @@ import io.kestra.core.http.client.HttpClientResponseException;
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.assets.Asset;
 import io.kestra.core.models.assets.AssetsDeclaration;
+import io.kestra.core.models.executions.AbstractMetricEntry;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.AssetEmit;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.plugin.fivetran.TestAssetManagerFactory;
+import io.kestra.plugin.fivetran.models.Connector;
+import io.kestra.plugin.fivetran.models.ConnectorStatusResponse;
 
 import jakarta.inject.Inject;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.moreThan;
@@ -40,10 +49,14 @@ import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
 import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -745,6 +758,116 @@ class StatusTest {
         );
     }
 
+    @Test
+    @DisplayName("Should schedule the next adaptive read from the sync state and schedule, capped by pollFrequency and the deadline")
+    void nextReadAtFollowsTheSyncStateAndSchedule() {
+        Instant now = Instant.parse("2026-01-01T12:00:00Z");
+        Duration delay = Duration.ofSeconds(20);
+        Duration pollFrequency = Duration.ofMinutes(10);
+        Instant deadline = now.plus(Duration.ofDays(1));
+        ZonedDateTime failedAt = ZonedDateTime.parse("2026-01-01T11:50:00Z");
+        ZonedDateTime overdue = ZonedDateTime.parse("2026-01-01T10:00:00Z");
+
+        // Idle before the next scheduled sync: not before it.
+        assertThat(
+            Status.nextReadAt(scheduledConnector(failedAt, 60, "auto", "scheduled"), now, delay, 1, pollFrequency, deadline),
+            is(Instant.parse("2026-01-01T12:50:20Z"))
+        );
+        // Idle with the scheduled sync overdue: backing off from pollFrequency, up to 8 of them.
+        assertThat(
+            Status.nextReadAt(scheduledConnector(overdue, 60, "auto", "scheduled"), now, delay, 1, pollFrequency, deadline),
+            is(now.plus(pollFrequency))
+        );
+        assertThat(
+            Status.nextReadAt(scheduledConnector(overdue, 60, "auto", "scheduled"), now, delay, 3, pollFrequency, deadline),
+            is(now.plus(pollFrequency.multipliedBy(4)))
+        );
+        assertThat(
+            Status.nextReadAt(scheduledConnector(overdue, 60, "auto", "scheduled"), now, delay, 10, pollFrequency, deadline),
+            is(now.plus(pollFrequency.multipliedBy(Status.ADAPTIVE_MAX_DEFERRAL_POLLS)))
+        );
+        // Never past the poll before the deadline.
+        assertThat(
+            Status.nextReadAt(scheduledConnector(failedAt, 60, "auto", "scheduled"), now, delay, 1, pollFrequency, now.plus(Duration.ofMinutes(30))),
+            is(Instant.parse("2026-01-01T12:20:00Z"))
+        );
+        // On the next poll while syncing, or without a schedule to predict from.
+        assertThat(Status.nextReadAt(scheduledConnector(failedAt, 60, "auto", "syncing"), now, delay, 0, pollFrequency, deadline), is(now));
+        assertThat(Status.nextReadAt(scheduledConnector(failedAt, 60, "manual", "scheduled"), now, delay, 1, pollFrequency, deadline), is(now));
+        assertThat(Status.nextReadAt(scheduledConnector(failedAt, null, "auto", "scheduled"), now, delay, 1, pollFrequency, deadline), is(now));
+        // A long idle streak with a long pollFrequency is capped, not multiplied past what an Instant can hold.
+        Duration century = Duration.ofDays(36_500);
+        Instant farDeadline = now.plus(century.multipliedBy(4));
+        assertThat(
+            Status.nextReadAt(scheduledConnector(overdue, 60, "auto", "scheduled"), now, delay, Integer.MAX_VALUE, century, farDeadline),
+            is(farDeadline.minus(century))
+        );
+    }
+
+    @Test
+    @DisplayName("Should still re-read a connector that just failed before maxDuration, rather than wait for its next scheduled sync")
+    void adaptivePollingCapsTheDeferralAfterAFailure(WireMockRuntimeInfo wmRuntimeInfo) {
+        String connectorId = "adaptive_failed_connector";
+
+        // The last sync failed a minute ago on an hourly schedule: no scheduled sync can complete for 59 minutes,
+        // but one may be triggered out of schedule.
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(connectorBody(connectorId, isoNow(-120), isoNow(-1), false, "connected", 60, null))
+                )
+        );
+
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of(connectorId)))
+            .adaptivePolling(Property.ofValue(true))
+            .adaptivePollingWindow(Property.ofValue(Duration.ZERO))
+            .pollFrequency(Property.ofValue(Duration.ofMillis(100)))
+            .maxDuration(Property.ofValue(Duration.ofSeconds(2)))
+            .build();
+
+        assertThrows(TimeoutException.class, () -> task.run(runContext()));
+
+        // Read at most every 8 polls: a few reads, instead of one or one per poll.
+        int reads = findAll(getRequestedFor(urlEqualTo("/v2/connectors/" + connectorId))).size();
+        assertThat(reads, both(greaterThanOrEqualTo(2)).and(lessThanOrEqualTo(4)));
+    }
+
+    @Test
+    @DisplayName("Should space out the reads of a connector stale after a success while its overdue sync does not start")
+    void adaptivePollingBacksOffWhileTheScheduledSyncIsOverdue(WireMockRuntimeInfo wmRuntimeInfo) {
+        String connectorId = "adaptive_overdue_connector";
+
+        // The last sync succeeded two hours ago on an hourly schedule, and the next one has not started.
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(connectorBody(connectorId, isoNow(-120), null, false, "connected", 60, null))
+                )
+        );
+
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of(connectorId)))
+            .adaptivePolling(Property.ofValue(true))
+            .pollFrequency(Property.ofValue(Duration.ofMillis(100)))
+            .maxDuration(Property.ofValue(Duration.ofSeconds(2)))
+            .build();
+
+        assertThrows(TimeoutException.class, () -> task.run(runContext()));
+
+        // About 20 polls, but reads backing off 1, 2, 4, then 8 polls apart.
+        int reads = findAll(getRequestedFor(urlEqualTo("/v2/connectors/" + connectorId))).size();
+        assertThat(reads, both(greaterThanOrEqualTo(3)).and(lessThanOrEqualTo(7)));
+    }
+
     @Test
     @DisplayName("Should fail clearly and without retrying when a connector is not found")
     void failsClearlyOn404WithoutRetrying(WireMockRuntimeInfo wmRuntimeInfo) {
@@ -854,6 +977,207 @@ class StatusTest {
         verify(exactly(0), getRequestedFor(urlMatching("/v2/connectors/.*")));
     }
 
+    @Test
+    @DisplayName("Should reject a negative pollJitter before polling")
+    void failsWhenPollJitterIsNegative(WireMockRuntimeInfo wmRuntimeInfo) {
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of("any_connector")))
+            .pollJitter(Property.ofValue(Duration.ofSeconds(-1)))
+            .build();
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> task.run(runContext()));
+        assertThat(thrown.getMessage(), containsString("pollJitter must not be negative"));
+
+        verify(exactly(0), getRequestedFor(urlMatching("/v2/connectors/.*")));
+    }
+
+    @Test
+    @DisplayName("Should serve a connector read by an earlier run from the shared cache within cacheTtl")
+    void servesRecentSnapshotsFromTheSharedCache(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        String connectorId = "cached_connector_" + UUID.randomUUID().toString().replace("-", "");
+
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(connectorBody(connectorId, isoNow(-10), null, false, "connected", 360, null))
+                )
+        );
+
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of(connectorId)))
+            .wait(Property.ofValue(false))
+            .cacheTtl(Property.ofValue(Duration.ofMinutes(1)))
+            .build();
+
+        Status.Output first = task.run(runContext());
+        Status.Output second = task.run(runContext());
+
+        assertThat(second.getConnectors().get(connectorId).getSucceededAt(), is(first.getConnectors().get(connectorId).getSucceededAt()));
+        verify(exactly(1), getRequestedFor(urlEqualTo("/v2/connectors/" + connectorId)));
+    }
+
+    @Test
+    @DisplayName("Should revalidate a connector with If-None-Match and reuse its snapshot on 304")
+    void revalidatesConnectorsWithConditionalRequests(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        String connectorId = "etag_connector_" + UUID.randomUUID().toString().replace("-", "");
+        String etag = "\"" + connectorId + "-v1\"";
+
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json").withHeader("ETag", etag)
+                        .withBody(connectorBody(connectorId, isoNow(-10), null, false, "connected", 360, null))
+                )
+        );
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .atPriority(1)
+                .withHeader("If-None-Match", equalTo(etag))
+                .willReturn(aResponse().withStatus(304).withHeader("ETag", etag))
+        );
+
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of(connectorId)))
+            .wait(Property.ofValue(false))
+            .build();
+
+        Status.Output first = task.run(runContext());
+        Status.Output second = task.run(runContext());
+
+        assertThat(second.getConnectors().get(connectorId).getSucceededAt(), is(first.getConnectors().get(connectorId).getSucceededAt()));
+        assertThat(second.getConnectors().get(connectorId).getFresh(), is(true));
+        verify(exactly(1), getRequestedFor(urlEqualTo("/v2/connectors/" + connectorId)).withoutHeader("If-None-Match"));
+        verify(exactly(1), getRequestedFor(urlEqualTo("/v2/connectors/" + connectorId)).withHeader("If-None-Match", equalTo(etag)));
+    }
+
+    @Test
+    @DisplayName("Should not keep a snapshot without validators read by a run without cacheTtl")
+    void keepsNoSnapshotWithoutCacheTtlOrValidators(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        String connectorId = "uncached_connector_" + UUID.randomUUID().toString().replace("-", "");
+
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(connectorBody(connectorId, isoNow(-10), null, false, "connected", 360, null))
+                )
+        );
+
+        Status.StatusBuilder<?, ?> builder = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of(connectorId)))
+            .wait(Property.ofValue(false));
+
+        builder.build().run(runContext());
+        builder.cacheTtl(Property.ofValue(Duration.ofMinutes(1))).build().run(runContext());
+
+        // The first run kept nothing, so the cached run had to read the connector itself.
+        verify(exactly(2), getRequestedFor(urlEqualTo("/v2/connectors/" + connectorId)));
+    }
+
+    @Test
+    @DisplayName("Should fail with a clear error on a 304 to a read that revalidated nothing")
+    void failsOnAnUnexpectedNotModified(WireMockRuntimeInfo wmRuntimeInfo) {
+        String connectorId = "unexpected_304_connector_" + UUID.randomUUID().toString().replace("-", "");
+
+        stubFor(get(urlEqualTo("/v2/connectors/" + connectorId)).willReturn(aResponse().withStatus(304)));
+
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of(connectorId)))
+            .wait(Property.ofValue(false))
+            .build();
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> task.run(runContext()));
+        assertThat(thrown.getMessage(), containsString("Unexpected 304 Not Modified"));
+    }
+
+    @Test
+    @DisplayName("Should report requests, attempts and retries per endpoint once the run ends")
+    void emitsRequestMetricsPerEndpoint(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        String connectorId = "metered_connector";
+
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .inScenario("metered")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withStatus(503))
+                .willSetStateTo("recovered")
+        );
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .inScenario("metered")
+                .whenScenarioStateIs("recovered")
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(connectorBody(connectorId, isoNow(-10), null, false, "connected", 360, null))
+                )
+        );
+
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of(connectorId)))
+            .wait(Property.ofValue(false))
+            .initialRetryDelay(Property.ofValue(Duration.ofMillis(10)))
+            .build();
+
+        RunContext runContext = runContext();
+        task.run(runContext);
+
+        Map<String, Number> metrics = runContext.metrics().stream()
+            .filter(metric -> "/v2/connectors/{id}".equals(metric.getTags().get("endpoint")))
+            .filter(metric -> "GET".equals(metric.getTags().get("method")))
+            .filter(metric -> metric.getValue() instanceof Number)
+            .collect(Collectors.toMap(AbstractMetricEntry::getName, metric -> (Number) metric.getValue()));
+        assertThat(metrics.get("requests").longValue(), is(1L));
+        assertThat(metrics.get("request.attempts").longValue(), is(2L));
+        assertThat(metrics.get("request.retries").longValue(), is(1L));
+        assertThat(metrics.get("response.5xx").longValue(), is(1L));
+        assertThat(metrics.get("response.bytes").longValue(), greaterThan(0L));
+        // Durations are aggregated too: one total and one maximum, however many attempts there were.
+        List<String> timers = runContext.metrics().stream()
+            .filter(metric -> "/v2/connectors/{id}".equals(metric.getTags().get("endpoint")))
+            .filter(metric -> metric.getName().startsWith("request.duration"))
+            .map(AbstractMetricEntry::getName)
+            .sorted()
+            .toList();
+        assertThat(timers, is(List.of("request.duration", "request.duration.max")));
+    }
+
+    @Test
+    @DisplayName("Should reject a negative cacheTtl before making any HTTP call")
+    void failsWhenCacheTtlIsNegative(WireMockRuntimeInfo wmRuntimeInfo) {
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of("any_connector")))
+            .wait(Property.ofValue(false))
+            .cacheTtl(Property.ofValue(Duration.ofSeconds(-1)))
+            .build();
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> task.run(runContext()));
+        assertThat(thrown.getMessage(), containsString("cacheTtl must not be negative"));
+
+        verify(exactly(0), getRequestedFor(urlMatching("/v2/connectors/.*")));
+    }
+
     @Test
     @DisplayName("Should not fail fast but time out when allowTerminal is true and a stale connector is paused")
     void allowTerminalLetsStalePausedConnectorTimeOutInsteadOfFailingFast(WireMockRuntimeInfo wmRuntimeInfo) {
@@ -980,8 +1304,12 @@ class StatusTest {
         assertThat(output.getConnectors().get(connectorIdA).getFresh(), is(true));
         assertThat(output.getConnectors().get(connectorIdB).getFresh(), is(true));
 
+        assertThat(List.copyOf(output.getConnectors().keySet()), is(List.of(connectorIdA, connectorIdB)));
+
         // B was stale on the first two polls, so it must have been polled more than once before succeeding.
         verify(moreThan(1), getRequestedFor(urlEqualTo("/v2/connectors/" + connectorIdB)));
+        // A was fresh from the first poll, so it is never read again while waiting for B.
+        verify(exactly(1), getRequestedFor(urlEqualTo("/v2/connectors/" + connectorIdA)));
     }
 
     @Test
@@ -1025,10 +1353,126 @@ class StatusTest {
         assertThat(output.getConnectors().get(connectorId).getFresh(), is(true));
     }
 
+    @Test
+    @DisplayName("Should coalesce concurrent reads of the same connector into a single GET")
+    void concurrentReadsOfTheSameConnectorShareOneRequest(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        String connectorId = "shared_connector";
+
+        // The delay keeps the first read in flight long enough for the second task to join it.
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withFixedDelay(1000)
+                        .withBody(connectorBody(connectorId, isoNow(-10), null, false, "connected", 360, null))
+                )
+        );
+
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of(connectorId)))
+            .wait(Property.ofValue(false))
+            .build();
+
+        CompletableFuture<Status.Output> first = CompletableFuture.supplyAsync(() -> assertDoesNotThrow(() -> task.run(runContext())));
+        CompletableFuture<Status.Output> second = CompletableFuture.supplyAsync(() -> assertDoesNotThrow(() -> task.run(runContext())));
+
+        assertThat(first.get().getConnectors().get(connectorId).getFresh(), is(true));
+        assertThat(second.get().getConnectors().get(connectorId).getFresh(), is(true));
+        verify(exactly(1), getRequestedFor(urlEqualTo("/v2/connectors/" + connectorId)));
+    }
+
+    @Test
+    @DisplayName("Should resolve connectors from paginated group listings in bulk mode without reading them one by one")
+    void bulkReadResolvesConnectorsFromGroupListings(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        String connectorIdA = "bulk_connector_a";
+        String connectorIdB = "bulk_connector_b";
+
+        stubFor(
+            get(urlEqualTo("/v2/groups/bulk_group/connectors?limit=1000"))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(groupPageBody("page_2", groupItem("unrelated_connector", isoNow(-10)), groupItem(connectorIdA, isoNow(-10))))
+                )
+        );
+        stubFor(
+            get(urlEqualTo("/v2/groups/bulk_group/connectors?limit=1000&cursor=page_2"))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(groupPageBody(null, groupItem(connectorIdB, isoNow(-600))))
+                )
+        );
+
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of(connectorIdB, connectorIdA)))
+            .bulkRead(Property.ofValue(true))
+            .groupIds(Property.ofValue(List.of("bulk_group")))
+            .wait(Property.ofValue(false))
+            .build();
+
+        Status.Output output = task.run(runContext());
+
+        assertThat(List.copyOf(output.getConnectors().keySet()), is(List.of(connectorIdB, connectorIdA)));
+        assertThat(output.getConnectors().get(connectorIdA).getFresh(), is(true));
+        assertThat(output.getConnectors().get(connectorIdB).getFresh(), is(false));
+        verify(exactly(0), getRequestedFor(urlMatching("/v2/connectors/.*")));
+        verify(exactly(2), getRequestedFor(urlMatching("/v2/groups/bulk_group/connectors.*")));
+    }
+
+    @Test
+    @DisplayName("Should fall back to an individual read for a connector absent from the group listings")
+    void bulkReadFallsBackToIndividualReadWhenNotListed(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        String connectorId = "moved_connector";
+
+        stubFor(
+            get(urlEqualTo("/v2/groups/old_group/connectors?limit=1000"))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(groupPageBody(null))
+                )
+        );
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(connectorBody(connectorId, isoNow(-10), null, false, "connected", 360, null, "new_group"))
+                )
+        );
+
+        Status task = Status.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .connectorIds(Property.ofValue(List.of(connectorId)))
+            .bulkRead(Property.ofValue(true))
+            .groupIds(Property.ofValue(List.of("old_group")))
+            .wait(Property.ofValue(false))
+            .build();
+
+        Status.Output output = task.run(runContext());
+
+        assertThat(output.getConnectors().get(connectorId).getFresh(), is(true));
+        verify(exactly(1), getRequestedFor(urlEqualTo("/v2/connectors/" + connectorId)));
+    }
+
     private RunContext runContext() {
         return runContextFactory.of(ImmutableMap.of());
     }
 
+    private static Connector scheduledConnector(ZonedDateTime failedAt, Integer syncFrequency, String scheduleType, String syncState) {
+        return Connector.builder()
+            .failedAt(failedAt)
+            .syncFrequency(syncFrequency)
+            .scheduleType(scheduleType)
+            .status(ConnectorStatusResponse.builder().syncState(syncState).build())
+            .build();
+    }
+
     private static String isoNow(long minutesOffset) {
         return ZonedDateTime.now().plusMinutes(minutesOffset).toInstant().toString();
     }
@@ -1116,6 +1560,34 @@ class StatusTest {
         );
     }
 
+    private static String groupPageBody(String nextCursor, String... items) {
+        return """
+            {
+              "code": "Success",
+              "data": {
+                "items": [%s],
+                "next_cursor": %s
+              }
+            }
+            """.formatted(String.join(",", items), jsonValue(nextCursor));
+    }
+
+    private static String groupItem(String connectorId, String succeededAt) {
+        return """
+            {
+              "id": "%s",
+              "name": "%s",
+              "group_id": "bulk_group",
+              "paused": false,
+              "status": {"setup_state": "connected", "sync_state": "scheduled", "schema_status": "ready"},
+              "succeeded_at": %s,
+              "failed_at": null,
+              "sync_frequency": 360,
+              "schedule_type": "auto"
+            }
+            """.formatted(connectorId, connectorId, jsonValue(succeededAt));
+    }
+
     private static String destinationSchemaField(String schema) {
         return schema == null
             ? ""
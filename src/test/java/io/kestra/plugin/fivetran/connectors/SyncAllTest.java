@@ -0,0 +1,294 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.google.common.collect.ImmutableMap;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.resetAllScenarios;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+@WireMockTest
+class SyncAllTest {
+    private static final String SUCCEEDING_CONNECTOR_ID = "succeeding_connector";
+    private static final String FAILING_CONNECTOR_ID = "failing_connector";
+    private static final String PREVIOUS_COMPLETION = "2026-07-27T10:00:00.000Z";
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @DisplayName("Should trigger every sync, wait for all of them in one loop and report each outcome")
+    void reportsTheOutcomeOfEverySync(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        stubSync(SUCCEEDING_CONNECTOR_ID, "2026-07-27T13:00:00.000Z", null);
+        stubSync(FAILING_CONNECTOR_ID, PREVIOUS_COMPLETION, "2026-07-27T13:00:00.000Z");
+
+        SyncAll.Output output = syncAllTask(wmRuntimeInfo.getHttpBaseUrl())
+            .failOnSyncFailure(Property.ofValue(false))
+            .build()
+            .run(runContext());
+
+        assertThat(List.copyOf(output.getConnectors().keySet()), is(List.of(SUCCEEDING_CONNECTOR_ID, FAILING_CONNECTOR_ID)));
+        assertThat(output.getConnectors().get(SUCCEEDING_CONNECTOR_ID).getStatus(), is(SyncAll.SyncStatus.SUCCEEDED));
+        assertThat(output.getConnectors().get(FAILING_CONNECTOR_ID).getStatus(), is(SyncAll.SyncStatus.FAILED));
+        verify(exactly(1), postRequestedFor(urlEqualTo("/v2/connectors/" + SUCCEEDING_CONNECTOR_ID + "/sync")));
+        verify(exactly(1), postRequestedFor(urlEqualTo("/v2/connectors/" + FAILING_CONNECTOR_ID + "/sync")));
+    }
+
+    @Test
+    @DisplayName("Should fail naming the failed connectors once all syncs are over")
+    void failsNamingFailedSyncs(WireMockRuntimeInfo wmRuntimeInfo) {
+        stubSync(SUCCEEDING_CONNECTOR_ID, "2026-07-27T13:00:00.000Z", null);
+        stubSync(FAILING_CONNECTOR_ID, PREVIOUS_COMPLETION, "2026-07-27T13:00:00.000Z");
+
+        Exception exception = assertThrows(Exception.class, () -> syncAllTask(wmRuntimeInfo.getHttpBaseUrl()).build().run(runContext()));
+
+        assertThat(exception.getMessage(), containsString("'" + FAILING_CONNECTOR_ID + "'"));
+        assertThat(exception.getMessage(), not(containsString("'" + SUCCEEDING_CONNECTOR_ID + "'")));
+    }
+
+    @Test
+    @DisplayName("Should return right after triggering when not waiting")
+    void returnsTriggeredOutcomesWithoutWaiting(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        stubSync(SUCCEEDING_CONNECTOR_ID, "2026-07-27T13:00:00.000Z", null);
+
+        SyncAll.Output output = syncAllTask(wmRuntimeInfo.getHttpBaseUrl())
+            .connectorIds(Property.ofValue(List.of(SUCCEEDING_CONNECTOR_ID)))
+            .wait(Property.ofValue(false))
+            .build()
+            .run(runContext());
+
+        assertThat(output.getConnectors().get(SUCCEEDING_CONNECTOR_ID).getStatus(), is(SyncAll.SyncStatus.TRIGGERED));
+        verify(exactly(1), getRequestedFor(urlEqualTo("/v2/connectors/" + SUCCEEDING_CONNECTOR_ID)));
+    }
+
+    @Test
+    @DisplayName("Should still wait on the triggered syncs when another one cannot be triggered, and report it")
+    void reportsASyncThatCouldNotBeTriggered(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        String rejectedConnectorId = "rejected_connector";
+        stubSync(SUCCEEDING_CONNECTOR_ID, "2026-07-27T13:00:00.000Z", null);
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + rejectedConnectorId))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(connectorBody(rejectedConnectorId, PREVIOUS_COMPLETION, null))
+                )
+        );
+        stubFor(
+            post(urlEqualTo("/v2/connectors/" + rejectedConnectorId + "/sync"))
+                .willReturn(
+                    aResponse().withStatus(409).withHeader("Content-Type", "application/json")
+                        .withBody("{\"code\": \"Conflict\", \"message\": \"Connector is paused\"}")
+                )
+        );
+
+        SyncAll.Output output = syncAllTask(wmRuntimeInfo.getHttpBaseUrl())
+            .connectorIds(Property.ofValue(List.of(SUCCEEDING_CONNECTOR_ID, rejectedConnectorId)))
+            .failOnSyncFailure(Property.ofValue(false))
+            .build()
+            .run(runContext());
+
+        assertThat(output.getConnectors().get(SUCCEEDING_CONNECTOR_ID).getStatus(), is(SyncAll.SyncStatus.SUCCEEDED));
+        SyncAll.SyncOutcome rejected = output.getConnectors().get(rejectedConnectorId);
+        assertThat(rejected.getStatus(), is(SyncAll.SyncStatus.TRIGGER_FAILED));
+        assertThat(rejected.getError(), notNullValue());
+        verify(exactly(1), postRequestedFor(urlEqualTo("/v2/connectors/" + SUCCEEDING_CONNECTOR_ID + "/sync")));
+
+        Exception exception = assertThrows(
+            Exception.class,
+            () -> syncAllTask(wmRuntimeInfo.getHttpBaseUrl())
+                .connectorIds(Property.ofValue(List.of(rejectedConnectorId)))
+                .build()
+                .run(runContext())
+        );
+        assertThat(exception.getMessage(), containsString("could not be triggered: '" + rejectedConnectorId + "'"));
+    }
+
+    @Test
+    @DisplayName("Should read each running sync on its own, retrying only the transient read failures")
+    void readsEachRunningSyncOnItsOwn(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        String flakyConnectorId = "flaky_connector";
+        String deletedConnectorId = "deleted_connector";
+        stubSync(SUCCEEDING_CONNECTOR_ID, "2026-07-27T13:00:00.000Z", null);
+        stubSync(flakyConnectorId, "2026-07-27T13:00:00.000Z", null);
+        stubSync(deletedConnectorId, "2026-07-27T13:00:00.000Z", null);
+        // Once triggered, the flaky connector fails one read with a 503 and the deleted one answers 404 for good.
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + flakyConnectorId))
+                .inScenario("sync-all-" + flakyConnectorId)
+                .whenScenarioStateIs("SYNCED")
+                .willSetStateTo("RECOVERED")
+                .willReturn(aResponse().withStatus(503))
+        );
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + flakyConnectorId))
+                .inScenario("sync-all-" + flakyConnectorId)
+                .whenScenarioStateIs("RECOVERED")
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(connectorBody(flakyConnectorId, "2026-07-27T13:00:00.000Z", null))
+                )
+        );
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + deletedConnectorId))
+                .inScenario("sync-all-" + deletedConnectorId)
+                .whenScenarioStateIs("SYNCED")
+                .willReturn(
+                    aResponse().withStatus(404).withHeader("Content-Type", "application/json")
+                        .withBody("{\"code\": \"NotFound_Connector\", \"message\": \"Connector not found\"}")
+                )
+        );
+        List<String> connectorIds = List.of(SUCCEEDING_CONNECTOR_ID, flakyConnectorId, deletedConnectorId);
+
+        SyncAll.Output output = syncAllTask(wmRuntimeInfo.getHttpBaseUrl())
+            .connectorIds(Property.ofValue(connectorIds))
+            .maxAttempts(Property.ofValue(1))
+            .failOnSyncFailure(Property.ofValue(false))
+            .build()
+            .run(runContext());
+
+        assertThat(output.getConnectors().get(SUCCEEDING_CONNECTOR_ID).getStatus(), is(SyncAll.SyncStatus.SUCCEEDED));
+        assertThat(output.getConnectors().get(flakyConnectorId).getStatus(), is(SyncAll.SyncStatus.SUCCEEDED));
+        SyncAll.SyncOutcome deleted = output.getConnectors().get(deletedConnectorId);
+        assertThat(deleted.getStatus(), is(SyncAll.SyncStatus.READ_FAILED));
+        assertThat(deleted.getError(), notNullValue());
+        // The read before the trigger, then one poll each: neither the 503 nor the 404 of the others discarded
+        // the completion read in the first cycle, and the 404 was not retried.
+        verify(exactly(2), getRequestedFor(urlEqualTo("/v2/connectors/" + SUCCEEDING_CONNECTOR_ID)));
+        verify(exactly(2), getRequestedFor(urlEqualTo("/v2/connectors/" + deletedConnectorId)));
+        verify(exactly(3), getRequestedFor(urlEqualTo("/v2/connectors/" + flakyConnectorId)));
+
+        resetAllScenarios();
+        Exception exception = assertThrows(
+            Exception.class,
+            () -> syncAllTask(wmRuntimeInfo.getHttpBaseUrl())
+                .connectorIds(Property.ofValue(List.of(deletedConnectorId)))
+                .build()
+                .run(runContext())
+        );
+        assertThat(exception.getMessage(), containsString("could not be read: '" + deletedConnectorId + "'"));
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate connector IDs before any call")
+    void failsOnDuplicateConnectorIds(WireMockRuntimeInfo wmRuntimeInfo) {
+        IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> syncAllTask(wmRuntimeInfo.getHttpBaseUrl())
+                .connectorIds(Property.ofValue(List.of(SUCCEEDING_CONNECTOR_ID, SUCCEEDING_CONNECTOR_ID)))
+                .build()
+                .run(runContext())
+        );
+
+        assertThat(thrown.getMessage(), containsString("duplicates"));
+    }
+
+    // The connector reports PREVIOUS_COMPLETION until its sync is triggered, then the given completion.
+    private static void stubSync(String connectorId, String succeededAt, String failedAt) {
+        String scenario = "sync-all-" + connectorId;
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .inScenario(scenario)
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(connectorBody(connectorId, PREVIOUS_COMPLETION, null))
+                )
+        );
+        stubFor(
+            post(urlEqualTo("/v2/connectors/" + connectorId + "/sync"))
+                .inScenario(scenario)
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willSetStateTo("SYNCED")
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(SYNC_TRIGGERED_BODY)
+                )
+        );
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .inScenario(scenario)
+                .whenScenarioStateIs("SYNCED")
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(connectorBody(connectorId, succeededAt, failedAt))
+                )
+        );
+    }
+
+    private SyncAll.SyncAllBuilder<?, ?> syncAllTask(String baseUrl) {
+        return SyncAll.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .connectorIds(Property.ofValue(List.of(SUCCEEDING_CONNECTOR_ID, FAILING_CONNECTOR_ID)))
+            .baseUrl(Property.ofValue(baseUrl))
+            .pollFrequency(Property.ofValue(Duration.ofMillis(100)))
+            .maxDuration(Property.ofValue(Duration.ofSeconds(5)));
+    }
+
+    private RunContext runContext() {
+        return runContextFactory.of(ImmutableMap.of());
+    }
+
+    private static final String SYNC_TRIGGERED_BODY = """
+        {
+          "code": "Success",
+          "message": "Sync has been successfully triggered"
+        }
+        """;
+
+    private static String connectorBody(String connectorId, String succeededAt, String failedAt) {
+        return """
+            {
+              "code": "Success",
+              "data": {
+                "id": "%s",
+                "name": "%s",
+                "paused": false,
+                "status": {
+                  "setup_state": "connected",
+                  "sync_state": "scheduled",
+                  "schema_status": "ready"
+                },
+                "succeeded_at": %s,
+                "failed_at": %s,
+                "sync_frequency": 360,
+                "group_id": "some_group",
+                "schedule_type": "auto"
+              }
+            }
+            """.formatted(connectorId, connectorId, jsonValue(succeededAt), jsonValue(failedAt));
+    }
+
+    private static String jsonValue(String value) {
+        return value == null ? "null" : "\"" + value + "\"";
+    }
+}
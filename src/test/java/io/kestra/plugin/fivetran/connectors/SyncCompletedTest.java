@@ -0,0 +1,164 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.Trigger;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.TestsUtils;
+
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+@WireMockTest
+class SyncCompletedTest {
+    private static final ZonedDateTime PREVIOUS_COMPLETION = ZonedDateTime.parse("2026-07-27T10:00:00Z");
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @DisplayName("Should start one execution once a pending sync completes, then forget it")
+    @SuppressWarnings("unchecked")
+    void startsAnExecutionOnceAPendingSyncCompletes(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        String connectorId = "deferred_completed_connector";
+        stubConnector(connectorId, "2026-07-27T13:00:00.000Z");
+
+        SyncCompleted trigger = trigger(wmRuntimeInfo.getHttpBaseUrl(), connectorId);
+        Map.Entry<ConditionContext, Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        registerPendingSync(context.getKey(), connectorId);
+
+        Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertThat(execution.isPresent(), is(true));
+        List<Map<String, Object>> syncs = (List<Map<String, Object>>) execution.get().getTrigger().getVariables().get("syncs");
+        assertThat(syncs, hasSize(1));
+        assertThat(syncs.getFirst().get("connectorId"), is(connectorId));
+        assertThat(syncs.getFirst().get("status"), is(SyncAll.SyncStatus.SUCCEEDED.name()));
+
+        // Reported once: the completed sync is no longer pending, so the next check has nothing to read.
+        assertThat(trigger.evaluate(context.getKey(), context.getValue()).isPresent(), is(false));
+        verify(exactly(1), getRequestedFor(urlEqualTo("/v2/connectors/" + connectorId)));
+    }
+
+    @Test
+    @DisplayName("Should keep watching a pending sync that has not completed yet")
+    void keepsWatchingARunningSync(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        String connectorId = "deferred_running_connector";
+        stubConnector(connectorId, PREVIOUS_COMPLETION.toInstant().toString());
+
+        SyncCompleted trigger = trigger(wmRuntimeInfo.getHttpBaseUrl(), connectorId);
+        Map.Entry<ConditionContext, Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        registerPendingSync(context.getKey(), connectorId);
+
+        assertThat(trigger.evaluate(context.getKey(), context.getValue()).isPresent(), is(false));
+        assertThat(trigger.evaluate(context.getKey(), context.getValue()).isPresent(), is(false));
+        verify(exactly(2), getRequestedFor(urlEqualTo("/v2/connectors/" + connectorId)));
+    }
+
+    @Test
+    @DisplayName("Should keep one pending entry per triggering run of a connector, and read the connector once for all of them")
+    @SuppressWarnings("unchecked")
+    void reportsEachRunSyncingTheSameConnector(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        String connectorId = "deferred_twice_connector";
+        stubConnector(connectorId, "2026-07-27T13:00:00.000Z");
+
+        SyncCompleted trigger = trigger(wmRuntimeInfo.getHttpBaseUrl(), connectorId);
+        Map.Entry<ConditionContext, Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        registerPendingSync(context.getKey(), connectorId);
+        registerPendingSync(context.getKey(), connectorId);
+
+        Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertThat(execution.isPresent(), is(true));
+        List<Map<String, Object>> syncs = (List<Map<String, Object>>) execution.get().getTrigger().getVariables().get("syncs");
+        assertThat(syncs, hasSize(2));
+        assertThat(trigger.evaluate(context.getKey(), context.getValue()).isPresent(), is(false));
+        verify(exactly(1), getRequestedFor(urlEqualTo("/v2/connectors/" + connectorId)));
+    }
+
+    @Test
+    @DisplayName("Should let only one evaluation claim a pending sync")
+    void claimsAPendingSyncOnce() throws Exception {
+        SyncCompleted trigger = trigger("http://localhost", "claimed_connector");
+        Map.Entry<ConditionContext, Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        registerPendingSync(context.getKey(), "claimed_connector");
+
+        PendingSyncs.PendingSync pendingSync = PendingSyncs.list(context.getKey().getRunContext()).stream()
+            .filter(listed -> listed.getConnectorId().equals("claimed_connector"))
+            .findFirst()
+            .orElseThrow();
+
+        assertThat(PendingSyncs.claim(context.getKey().getRunContext(), pendingSync), is(true));
+        assertThat(PendingSyncs.claim(context.getKey().getRunContext(), pendingSync), is(false));
+    }
+
+    private static SyncCompleted trigger(String baseUrl, String connectorId) {
+        return SyncCompleted.builder()
+            .id("sync_completed")
+            .type(SyncCompleted.class.getName())
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(baseUrl))
+            .connectorIds(Property.ofValue(List.of(connectorId)))
+            .build();
+    }
+
+    private static void registerPendingSync(ConditionContext conditionContext, String connectorId) throws Exception {
+        PendingSyncs.register(conditionContext.getRunContext(), PendingSyncs.PendingSync.builder()
+            .connectorId(connectorId)
+            .triggeredAt(Instant.parse("2026-07-27T12:00:00Z"))
+            .previousCompletedDate(PREVIOUS_COMPLETION)
+            .build()
+        );
+    }
+
+    private static void stubConnector(String connectorId, String succeededAt) {
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody("""
+                            {
+                              "code": "Success",
+                              "data": {
+                                "id": "%s",
+                                "name": "%s",
+                                "paused": false,
+                                "status": {"setup_state": "connected", "sync_state": "scheduled", "schema_status": "ready"},
+                                "succeeded_at": "%s",
+                                "failed_at": null,
+                                "sync_frequency": 360,
+                                "group_id": "some_group",
+                                "schedule_type": "auto"
+                              }
+                            }
+                            """.formatted(connectorId, connectorId, succeededAt))
+                )
+        );
+    }
+}
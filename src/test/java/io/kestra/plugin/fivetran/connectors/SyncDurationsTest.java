@@ -0,0 +1,68 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.plugin.fivetran.models.Connector;
+import io.kestra.plugin.fivetran.models.ConnectorStatusResponse;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class SyncDurationsTest {
+    private static final Duration POLL_FREQUENCY = Duration.ofSeconds(5);
+
+    @Test
+    @DisplayName("Should space reads by half the expected remaining time early in the sync")
+    void pollsSparselyEarlyInTheSync() {
+        assertThat(SyncDurations.nextPollDelay(Duration.ofMinutes(50), Duration.ZERO, POLL_FREQUENCY), is(Duration.ofMinutes(25)));
+        assertThat(SyncDurations.nextPollDelay(Duration.ofMinutes(50), Duration.ofMinutes(40), POLL_FREQUENCY), is(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("Should never read more often than pollFrequency, including once the expected duration is exceeded")
+    void neverPollsFasterThanPollFrequency() {
+        assertThat(SyncDurations.nextPollDelay(Duration.ofMinutes(50), Duration.ofSeconds(2995), POLL_FREQUENCY), is(POLL_FREQUENCY));
+        assertThat(SyncDurations.nextPollDelay(Duration.ofMinutes(50), Duration.ofMinutes(70), POLL_FREQUENCY), is(POLL_FREQUENCY));
+    }
+
+    @Test
+    @DisplayName("Should weight the latest observed duration against the history")
+    void smoothsObservedDurations() {
+        assertThat(SyncDurations.smooth(Duration.ofMinutes(50), Duration.ofMinutes(50)), is(Duration.ofMinutes(50)));
+        assertThat(SyncDurations.smooth(Duration.ofMinutes(50), Duration.ofMinutes(60)), is(Duration.ofMinutes(53)));
+    }
+
+    @Test
+    @DisplayName("Should only observe the duration of a sync the trigger started")
+    void observesOnlyTheSyncsTheTriggerStarted() {
+        Instant triggeredAt = Instant.parse("2026-07-27T10:00:00Z");
+        var completedDate = triggeredAt.plus(Duration.ofMinutes(3)).atZone(ZoneOffset.UTC);
+
+        assertThat(SyncDurations.observed(connector("scheduled"), false, triggeredAt, completedDate), is(Optional.of(Duration.ofMinutes(3))));
+        // Without force, the trigger joined the sync already running: it completes early and says nothing of a full sync.
+        assertThat(SyncDurations.observed(connector("syncing"), false, triggeredAt, completedDate), is(Optional.empty()));
+        // With force, the running sync was restarted by the trigger.
+        assertThat(SyncDurations.observed(connector("syncing"), true, triggeredAt, completedDate), is(Optional.of(Duration.ofMinutes(3))));
+        assertThat(SyncDurations.observed(connector("scheduled"), false, triggeredAt, triggeredAt.minusSeconds(1).atZone(ZoneOffset.UTC)), is(Optional.empty()));
+    }
+
+    @Test
+    @DisplayName("Should build a valid KV key from any connector ID")
+    void keyIsSanitized() {
+        assertThat(SyncDurations.key("arriving_atone"), is("fivetran_sync_duration_arriving_atone"));
+        assertThat(SyncDurations.key("a/b c"), is("fivetran_sync_duration_a_b_c"));
+    }
+
+    private static Connector connector(String syncState) {
+        return Connector.builder()
+            .id("observed_connector")
+            .status(ConnectorStatusResponse.builder().syncState(syncState).build())
+            .build();
+    }
+}
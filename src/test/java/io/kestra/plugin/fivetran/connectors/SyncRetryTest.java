@@ -422,6 +422,69 @@ class SyncRetryTest {
         verify(exactly(3), getRequestedFor(urlEqualTo("/v2/connectors/" + CONNECTOR_ID)));
     }
 
+    @Test
+    @DisplayName("Should wait the Retry-After delay of a 429 instead of the exponential backoff")
+    void retryAfterOverridesExponentialBackoff(WireMockRuntimeInfo wmRuntimeInfo) {
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + CONNECTOR_ID))
+                .inScenario(SYNC_SCENARIO)
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(connectorBody(null, null))
+                )
+        );
+
+        stubFor(
+            post(urlEqualTo("/v2/connectors/" + CONNECTOR_ID + "/sync"))
+                .inScenario(SYNC_SCENARIO)
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willSetStateTo("POLLING")
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(SYNC_TRIGGERED_BODY)
+                )
+        );
+
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + CONNECTOR_ID))
+                .inScenario(SYNC_SCENARIO)
+                .whenScenarioStateIs("POLLING")
+                .willSetStateTo("POLLING_RECOVERED")
+                .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "0"))
+        );
+
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + CONNECTOR_ID))
+                .inScenario(SYNC_SCENARIO)
+                .whenScenarioStateIs("POLLING_RECOVERED")
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody(connectorBody("2026-07-27T13:13:08.389Z", null))
+                )
+        );
+
+        // A 20s backoff could never fit in the 3s maxDuration, and a second poll can never run either, so
+        // completion proves the in-request retry waited the server's Retry-After of 0s instead.
+        Sync task = Sync.builder()
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .connectorId(Property.ofValue(CONNECTOR_ID))
+            .baseUrl(Property.ofValue(wmRuntimeInfo.getHttpBaseUrl()))
+            .pollFrequency(Property.ofValue(Duration.ofSeconds(10)))
+            .maxDuration(Property.ofValue(Duration.ofSeconds(3)))
+            .maxAttempts(Property.ofValue(2))
+            .initialRetryDelay(Property.ofValue(Duration.ofSeconds(20)))
+            .build();
+
+        Instant start = Instant.now();
+        assertDoesNotThrow(() -> task.run(runContext()));
+        long elapsedMs = Duration.between(start, Instant.now()).toMillis();
+
+        assertTrue(elapsedMs < 15_000, "expected the Retry-After delay to replace the 20s backoff, elapsed " + elapsedMs + "ms");
+        verify(exactly(3), getRequestedFor(urlEqualTo("/v2/connectors/" + CONNECTOR_ID)));
+    }
+
     @Test
     @DisplayName("Should name the last transient error when polling times out")
     void timeoutNamesLastTransientError(WireMockRuntimeInfo wmRuntimeInfo) {
@@ -0,0 +1,66 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.plugin.fivetran.models.Connector;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class SyncSnapshotTest {
+    private static final ZonedDateTime EARLIER = ZonedDateTime.parse("2026-04-28T03:06:48.382Z");
+    private static final ZonedDateTime LATER = ZonedDateTime.parse("2026-07-27T13:13:08.389Z");
+
+    @Test
+    @DisplayName("Should agree with Connector on the last completion and on whether it failed")
+    void agreesWithConnector() {
+        ZonedDateTime[][] cases = {
+            {LATER, EARLIER},
+            {EARLIER, LATER},
+            {LATER, LATER},
+            {null, LATER},
+            {LATER, null},
+            {null, null}
+        };
+        for (ZonedDateTime[] dates : cases) {
+            Connector connector = Connector.builder().succeededAt(dates[0]).failedAt(dates[1]).build();
+            SyncSnapshot snapshot = SyncSnapshot.of(connector);
+
+            assertThat(snapshot.hasFailed(), is(connector.hasFailed()));
+            assertThat(snapshot.succeededLast() ? connector.getSucceededAt() : connector.getFailedAt(), is(connector.completedDate()));
+            assertThat(snapshot.completedAtNanos(), is(SyncSnapshot.epochNanos(connector.completedDate())));
+        }
+    }
+
+    @Test
+    @DisplayName("Should agree with Sync on whether a completion is more recent than the one read before the trigger")
+    void agreesWithSyncOnCompletion() {
+        ZonedDateTime[] dates = {null, EARLIER, LATER};
+        for (ZonedDateTime completed : dates) {
+            for (ZonedDateTime previous : dates) {
+                SyncSnapshot snapshot = SyncSnapshot.of(Connector.builder().succeededAt(completed).build());
+
+                assertThat(
+                    snapshot.hasCompletedSince(SyncSnapshot.epochNanos(previous)),
+                    is(Sync.hasCompletedSince(completed, previous))
+                );
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should be fresh up to syncFrequency plus buffer after the last success, and unknown without syncFrequency")
+    void freshWithinSyncFrequencyPlusBuffer() {
+        SyncSnapshot snapshot = SyncSnapshot.of(Connector.builder().succeededAt(LATER).syncFrequency(60).build());
+        long boundary = SyncSnapshot.epochNanos(LATER.plusMinutes(65));
+        long buffer = 5 * 60 * 1_000_000_000L;
+
+        assertThat(snapshot.fresh(buffer, boundary), is(true));
+        assertThat(snapshot.fresh(buffer, boundary + 1), is(false));
+        assertThat(SyncSnapshot.of(Connector.builder().succeededAt(LATER).build()).fresh(buffer, boundary), is(nullValue()));
+    }
+}
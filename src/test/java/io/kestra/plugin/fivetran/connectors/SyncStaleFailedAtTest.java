@@ -76,7 +76,7 @@ class SyncStaleFailedAtTest {
     }
 
     @Test
-    @DisplayName("Should fail a sync whose failed_at is more recent than succeeded_at")
+    @DisplayName("Should fail a sync whose failed_at is more recent than succeeded_at, naming the connector's status tasks")
     void mostRecentFailureFailsTheSync(WireMockRuntimeInfo wmRuntimeInfo) {
         stubFor(
             get(urlEqualTo("/v2/connectors/" + CONNECTOR_ID))
@@ -106,12 +106,14 @@ class SyncStaleFailedAtTest {
                 .whenScenarioStateIs("SYNCED")
                 .willReturn(
                     aResponse().withStatus(200).withHeader("Content-Type", "application/json")
-                        .withBody(connectorBody("2026-04-28T03:06:48.382Z", "2026-07-27T13:13:08.389Z"))
+                        .withBody(connectorBody("2026-04-28T03:06:48.382Z", "2026-07-27T13:13:08.389Z", FAILURE_TASKS))
                 )
         );
 
         Exception exception = assertThrows(Exception.class, () -> syncTask(wmRuntimeInfo.getHttpBaseUrl()).run(runContext()));
         assertThat(exception.getMessage(), containsString("Connector '" + CONNECTOR_ID + "' failed"));
+        // Polling reads leave the status tasks out, so the message comes from a full read of the failed connector.
+        assertThat(exception.getMessage(), containsString("The credentials of the source database expired"));
     }
 
     private Sync syncTask(String baseUrl) {
@@ -135,7 +137,14 @@ class SyncStaleFailedAtTest {
         }
         """;
 
+    private static final String FAILURE_TASKS = """
+        [{"code": "reconnect", "message": "The credentials of the source database expired"}]""";
+
     private static String connectorBody(String succeededAt, String failedAt) {
+        return connectorBody(succeededAt, failedAt, "[]");
+    }
+
+    private static String connectorBody(String succeededAt, String failedAt, String tasks) {
         return """
             {
               "code": "Success",
@@ -150,7 +159,7 @@ class SyncStaleFailedAtTest {
                   "update_state": "on_schedule",
                   "is_historical_sync": false,
                   "schema_status": "ready",
-                  "tasks": [],
+                  "tasks": %s,
                   "warnings": []
                 },
                 "daily_sync_time": "14:00",
@@ -165,7 +174,7 @@ class SyncStaleFailedAtTest {
                 "schedule_type": "auto"
               }
             }
-            """.formatted(CONNECTOR_ID, CONNECTOR_ID, jsonValue(succeededAt), jsonValue(failedAt));
+            """.formatted(CONNECTOR_ID, CONNECTOR_ID, tasks, jsonValue(succeededAt), jsonValue(failedAt));
     }
 
     private static String jsonValue(String value) {
@@ -0,0 +1,159 @@
+package io.kestra.plugin.fivetran.connectors;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.TestsUtils;
+
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+@WireMockTest
+class TriggerTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @DisplayName("Should record a baseline on the first check, then start an execution per check listing the new completions")
+    @SuppressWarnings("unchecked")
+    void startsAnExecutionOnNewCompletions(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        String connectorId = "watched_connector";
+        stubConnector(connectorId, "2026-07-27T10:00:00.000Z", null);
+
+        Trigger trigger = trigger(wmRuntimeInfo.getHttpBaseUrl(), "trigger_by_connector")
+            .connectorIds(Property.ofValue(List.of(connectorId)))
+            .build();
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        // The first check only records the completion already there.
+        assertThat(trigger.evaluate(context.getKey(), context.getValue()).isPresent(), is(false));
+        assertThat(trigger.evaluate(context.getKey(), context.getValue()).isPresent(), is(false));
+
+        stubConnector(connectorId, "2026-07-27T10:00:00.000Z", "2026-07-27T11:00:00.000Z");
+        Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertThat(execution.isPresent(), is(true));
+        List<Map<String, Object>> completions = (List<Map<String, Object>>) execution.get().getTrigger().getVariables().get("completions");
+        assertThat(completions, hasSize(1));
+        assertThat(completions.getFirst().get("connectorId"), is(connectorId));
+        assertThat(completions.getFirst().get("status"), is(SyncAll.SyncStatus.FAILED.name()));
+
+        // The same completion is never reported twice.
+        assertThat(trigger.evaluate(context.getKey(), context.getValue()).isPresent(), is(false));
+    }
+
+    @Test
+    @DisplayName("Should watch every connector of a group through its listing")
+    @SuppressWarnings("unchecked")
+    void watchesEveryConnectorOfAGroup(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        stubGroup("watched_group", "2026-07-27T10:00:00.000Z");
+
+        Trigger trigger = trigger(wmRuntimeInfo.getHttpBaseUrl(), "trigger_by_group")
+            .groupIds(Property.ofValue(List.of("watched_group")))
+            .build();
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        assertThat(trigger.evaluate(context.getKey(), context.getValue()).isPresent(), is(false));
+
+        stubGroup("watched_group", "2026-07-27T12:00:00.000Z");
+        Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertThat(execution.isPresent(), is(true));
+        List<Map<String, Object>> completions = (List<Map<String, Object>>) execution.get().getTrigger().getVariables().get("completions");
+        assertThat(completions, hasSize(1));
+        assertThat(completions.getFirst().get("connectorId"), is("group_member"));
+        assertThat(completions.getFirst().get("status"), is(SyncAll.SyncStatus.SUCCEEDED.name()));
+    }
+
+    @Test
+    @DisplayName("Should reject a trigger watching nothing")
+    void failsWithoutConnectorsOrGroups(WireMockRuntimeInfo wmRuntimeInfo) {
+        Trigger trigger = trigger(wmRuntimeInfo.getHttpBaseUrl(), "trigger_watching_nothing").build();
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        assertThrows(IllegalArgumentException.class, () -> trigger.evaluate(context.getKey(), context.getValue()));
+    }
+
+    private static Trigger.TriggerBuilder<?, ?> trigger(String baseUrl, String id) {
+        return Trigger.builder()
+            .id(id)
+            .type(Trigger.class.getName())
+            .apiKey(Property.ofValue("dummy-api-key"))
+            .apiSecret(Property.ofValue("dummy-api-secret"))
+            .baseUrl(Property.ofValue(baseUrl));
+    }
+
+    private static void stubConnector(String connectorId, String succeededAt, String failedAt) {
+        stubFor(
+            get(urlEqualTo("/v2/connectors/" + connectorId))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody("""
+                            {
+                              "code": "Success",
+                              "data": %s
+                            }
+                            """.formatted(connectorJson(connectorId, succeededAt, failedAt)))
+                )
+        );
+    }
+
+    private static void stubGroup(String groupId, String succeededAt) {
+        stubFor(
+            get(urlEqualTo("/v2/groups/" + groupId + "/connectors?limit=1000"))
+                .willReturn(
+                    aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                        .withBody("""
+                            {
+                              "code": "Success",
+                              "data": {
+                                "items": [%s],
+                                "next_cursor": null
+                              }
+                            }
+                            """.formatted(connectorJson("group_member", succeededAt, null)))
+                )
+        );
+    }
+
+    private static String connectorJson(String connectorId, String succeededAt, String failedAt) {
+        return """
+            {
+              "id": "%s",
+              "name": "%s",
+              "paused": false,
+              "status": {"setup_state": "connected", "sync_state": "scheduled", "schema_status": "ready"},
+              "succeeded_at": %s,
+              "failed_at": %s,
+              "sync_frequency": 60,
+              "group_id": "watched_group",
+              "schedule_type": "auto"
+            }
+            """.formatted(connectorId, connectorId, jsonValue(succeededAt), jsonValue(failedAt));
+    }
+
+    private static String jsonValue(String value) {
+        return value == null ? "null" : "\"" + value + "\"";
+    }
+}
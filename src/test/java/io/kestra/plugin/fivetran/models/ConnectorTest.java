@@ -5,8 +5,15 @@ import java.time.ZonedDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 class ConnectorTest {
     // Fivetran keeps failed_at as the timestamp of the most recent failure ever, it is never cleared on a later success.
@@ -89,4 +96,37 @@ class ConnectorTest {
 
         assertThat(connector.destinationSchemaName(), is("google_sheets.destination"));
     }
+
+    @Test
+    @DisplayName("Should skip setup tests, sync details and status alerts when read with the polling view")
+    void pollingViewSkipsHeavySubtrees() throws Exception {
+        String json = """
+            {
+              "id": "connector",
+              "sync_frequency": 60,
+              "succeeded_at": "2026-07-27T13:13:08.389Z",
+              "created_at": "2026-01-01T00:00:00.000Z",
+              "setup_tests": [{"title": "Validate credentials", "status": "PASSED", "message": ""}],
+              "source_sync_details": {"tables": [{"name": "orders", "rows": 12}]},
+              "status": {"sync_state": "scheduled", "setup_state": "connected", "tasks": [{"code": "a", "message": "b"}], "warnings": []}
+            }
+            """;
+        ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .registerModule(new JavaTimeModule());
+
+        Connector polled = mapper.readerFor(Connector.class).withView(Views.Polling.class).readValue(json);
+        assertThat(polled.getSyncFrequency(), is(60));
+        assertThat(polled.getSucceededAt(), is(ZonedDateTime.parse("2026-07-27T13:13:08.389Z")));
+        assertThat(polled.getStatus().getSyncState(), is("scheduled"));
+        assertThat(polled.getSetupTests(), nullValue());
+        assertThat(polled.getSourceSyncDetails(), nullValue());
+        assertThat(polled.getCreatedAt(), nullValue());
+        assertThat(polled.getStatus().getTasks(), nullValue());
+
+        Connector full = mapper.readerFor(Connector.class).readValue(json);
+        assertThat(full.getSetupTests(), hasSize(1));
+        assertThat(full.getSourceSyncDetails(), notNullValue());
+        assertThat(full.getStatus().getTasks(), hasSize(1));
+    }
 }